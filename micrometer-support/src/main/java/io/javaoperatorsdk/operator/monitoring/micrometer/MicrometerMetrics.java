@@ -1,20 +1,26 @@
 package io.javaoperatorsdk.operator.monitoring.micrometer;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
 public class MicrometerMetrics implements Metrics {
 
@@ -116,6 +122,50 @@ public class MicrometerMetrics implements Metrics {
     return registry.gaugeMapSize(PREFIX + name + ".size", Collections.emptyList(), map);
   }
 
+  // the queue gauges of the executor only count the workers of the controllers, the reconciliations
+  // waiting for a thread are reported by the backlog gauge
+  @Override
+  public ExecutorService monitorExecutorService(ExecutorService executorService, String name) {
+    return ExecutorServiceMetrics.monitor(registry, executorService, name,
+        PREFIX + "reconciliations.executor", Collections.emptyList());
+  }
+
+  @Override
+  public void pollingLag(String name, Duration lag) {
+    registry.timer(PREFIX + "polling.lag", "source", name).record(lag);
+  }
+
+  @Override
+  public void reconciliationQueueWait(String controllerName, ReconciliationTrigger trigger,
+      Duration waitTime) {
+    registry.timer(PREFIX + RECONCILIATIONS + "queue.wait", "controller", controllerName,
+        "trigger", trigger.name()).record(waitTime);
+  }
+
+  @Override
+  public void monitorBacklog(String controllerName, String poolName, Collection<?> backlog) {
+    registry.gaugeCollectionSize(PREFIX + RECONCILIATIONS + "backlog",
+        Tags.of("controller", controllerName, "pool", poolName), backlog);
+  }
+
+  @Override
+  public void monitorResourceStates(String controllerName, Map<?, ?> states) {
+    registry.gaugeMapSize(PREFIX + "resource.states", Tags.of("controller", controllerName),
+        states);
+  }
+
+  @Override
+  public void eventShed(String controllerName, Event event) {
+    registry.counter(PREFIX + "events.shed", "controller", controllerName, "event",
+        event.getClass().getSimpleName()).increment();
+  }
+
+  @Override
+  public void backlogDrained(String controllerName, Duration timeToDrain) {
+    registry.timer(PREFIX + RECONCILIATIONS + "backlog.drain", "controller", controllerName)
+        .record(timeToDrain);
+  }
+
   private void incrementCounter(ResourceID id, String counterName, Map<String, Object> metadata,
       String... additionalTags) {
     final var additionalTagsNb =
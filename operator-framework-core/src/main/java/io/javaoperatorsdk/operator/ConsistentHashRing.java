@@ -0,0 +1,87 @@
+package io.javaoperatorsdk.operator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Immutable hash ring assigning each resource to one of a set of members. Each member is placed at
+ * several points of the ring (virtual nodes) and a resource belongs to the member of the first
+ * point following the hash of its {@link ResourceID}, so that a member joining or leaving the ring
+ * only moves about {@code 1/members} of the resources.
+ */
+class ConsistentHashRing {
+
+  private final SortedSet<String> members;
+  // sorted hashes of the virtual nodes and, at the same index, the member they belong to
+  private final long[] points;
+  private final String[] owners;
+
+  ConsistentHashRing(SortedSet<String> members, int virtualNodes) {
+    this.members = Collections.unmodifiableSortedSet(new TreeSet<>(members));
+    final var nodes = new Node[members.size() * virtualNodes];
+    int i = 0;
+    for (String member : members) {
+      for (int node = 0; node < virtualNodes; node++) {
+        nodes[i++] = new Node(hash(member + '#' + node), member);
+      }
+    }
+    // ties are broken by member so that all replicas build the same ring
+    Arrays.sort(nodes, (a, b) -> a.point != b.point ? Long.compare(a.point, b.point)
+        : a.member.compareTo(b.member));
+    this.points = new long[nodes.length];
+    this.owners = new String[nodes.length];
+    for (i = 0; i < nodes.length; i++) {
+      points[i] = nodes[i].point;
+      owners[i] = nodes[i].member;
+    }
+  }
+
+  SortedSet<String> getMembers() {
+    return members;
+  }
+
+  /**
+   * @param resourceID the identifier of the resource
+   * @return the member owning the resource or {@code null} if the ring has no members
+   */
+  String ownerOf(ResourceID resourceID) {
+    if (points.length == 0) {
+      return null;
+    }
+    final var hash = hash(resourceID.getNamespace().orElse("") + '/' + resourceID.getName());
+    var index = Arrays.binarySearch(points, hash);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    return owners[index == points.length ? 0 : index];
+  }
+
+  // 64-bit FNV-1a followed by a murmur3 finalizer so that similar names spread over the ring
+  static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static class Node {
+    private final long point;
+    private final String member;
+
+    private Node(long point, String member) {
+      this.point = point;
+      this.member = member;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.javaoperatorsdk.operator;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElector;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import io.javaoperatorsdk.operator.Operator.ControllerManager;
+import io.javaoperatorsdk.operator.api.config.LeaderElectionConfiguration;
+import io.javaoperatorsdk.operator.processing.LifecycleAware;
+
+/**
+ * Elects the replica of the operator reconciling resources using a Lease. Controllers of all
+ * replicas are started so that their caches are kept in sync, but only the leader processes events:
+ * standby replicas only record them, to process them as soon as they acquire the Lease. A leader
+ * losing the Lease stops processing events and goes back to standby.
+ */
+class LeaderElectionManager implements LifecycleAware {
+
+  private static final Logger log = LoggerFactory.getLogger(LeaderElectionManager.class);
+
+  private final KubernetesClient client;
+  private final ControllerManager controllers;
+  private final LeaderElectionConfiguration configuration;
+  private final String identity;
+  private volatile boolean leader;
+  private volatile boolean stopped;
+  private Thread electionThread;
+
+  LeaderElectionManager(KubernetesClient client, ControllerManager controllers,
+      LeaderElectionConfiguration configuration) {
+    this.client = client;
+    this.controllers = controllers;
+    this.configuration = configuration;
+    this.identity = configuration.getIdentity().orElseGet(LeaderElectionManager::defaultIdentity);
+  }
+
+  private static String defaultIdentity() {
+    // the host name is the pod name when running in a cluster
+    final var hostName = System.getenv("HOSTNAME");
+    return hostName != null && !hostName.isBlank() ? hostName : UUID.randomUUID().toString();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (electionThread != null) {
+      return;
+    }
+    final var namespace = configuration.getLeaseNamespace().orElseGet(client::getNamespace);
+    if (namespace == null) {
+      throw new OperatorException("Namespace of Lease '" + configuration.getLeaseName()
+          + "' couldn't be inferred from the current configuration, please specify it explicitly");
+    }
+    final LeaderElector<?> elector = client.leaderElector()
+        .withConfig(new LeaderElectionConfig(
+            new LeaseLock(namespace, configuration.getLeaseName(), identity),
+            configuration.getLeaseDuration(),
+            configuration.getRenewDeadline(),
+            configuration.getRetryPeriod(),
+            new LeaderCallbacks(this::startLeading, this::stopLeading, this::newLeader),
+            true,
+            configuration.getLeaseName()))
+        .build();
+    stopped = false;
+    electionThread = new Thread(() -> elect(elector), "leader-election");
+    electionThread.setDaemon(true);
+    electionThread.start();
+    log.info("Started leader election for Lease '{}' in namespace '{}' as '{}'",
+        configuration.getLeaseName(), namespace, identity);
+  }
+
+  private void elect(LeaderElector<?> elector) {
+    while (!stopped) {
+      try {
+        // only returns once the leadership is lost or the thread is interrupted
+        elector.run();
+      } catch (Exception e) {
+        log.error("Error during leader election, retrying", e);
+      }
+      if (!stopped && sleepBeforeRetry()) {
+        return;
+      }
+    }
+  }
+
+  private boolean sleepBeforeRetry() {
+    try {
+      Thread.sleep(configuration.getRetryPeriod().toMillis());
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return true;
+    }
+  }
+
+  private void startLeading() {
+    log.info("'{}' acquired Lease '{}', starting event processing", identity,
+        configuration.getLeaseName());
+    leader = true;
+    controllers.startEventProcessing();
+  }
+
+  private void stopLeading() {
+    if (!leader) {
+      return;
+    }
+    leader = false;
+    // another replica can only acquire the Lease once it expired, reconciliations in progress are
+    // given until then to finish so that they don't conflict with the ones of the new leader
+    final var timeout = configuration.getLeaseDuration().minus(configuration.getRenewDeadline());
+    if (!controllers.stopEventProcessing(timeout.isNegative() ? Duration.ZERO : timeout)) {
+      log.warn("Reconciliations still in progress {} after losing Lease '{}', they might conflict"
+          + " with the ones of the new leader", timeout, configuration.getLeaseName());
+    }
+    if (!stopped) {
+      log.warn("'{}' lost Lease '{}', stopped event processing and going back to standby",
+          identity, configuration.getLeaseName());
+    }
+  }
+
+  private void newLeader(String newLeader) {
+    if (newLeader != null && !newLeader.equals(identity)) {
+      log.info("New leader for Lease '{}': '{}'", configuration.getLeaseName(), newLeader);
+    }
+  }
+
+  boolean isLeader() {
+    return leader;
+  }
+
+  String getIdentity() {
+    return identity;
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (electionThread == null) {
+      return;
+    }
+    stopped = true;
+    electionThread.interrupt();
+    try {
+      electionThread.join(configuration.getRenewDeadline().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    electionThread = null;
+  }
+}
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -7,6 +8,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,12 +26,22 @@ import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimited;
+import io.javaoperatorsdk.operator.processing.event.rate.TokenBucketRateLimiter;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerRegistry;
 
 @SuppressWarnings("rawtypes")
 public class Operator implements LifecycleAware {
   private static final Logger log = LoggerFactory.getLogger(Operator.class);
   private final KubernetesClient kubernetesClient;
   private final ControllerManager controllers = new ControllerManager();
+  private LeaderElectionManager leaderElectionManager;
+  private ShardManager shardManager;
+  // rate limiter which limit is shared by the controllers using the operator rate limit scope
+  private TokenBucketRateLimiter operatorRateLimiter;
+  // informers shared by the event sources of the controllers, if enabled
+  private final InformerRegistry informerRegistry = new InformerRegistry();
 
   public Operator() {
     this(new DefaultKubernetesClient(), ConfigurationServiceProvider.instance());
@@ -97,7 +109,24 @@ public class Operator implements LifecycleAware {
       log.info("Client version: {}", clientVersion);
 
       ExecutorServiceManager.init();
-      controllers.start();
+      final var leaderElection =
+          ConfigurationServiceProvider.instance().getLeaderElectionConfiguration();
+      final var sharding = ConfigurationServiceProvider.instance().getShardingConfiguration();
+      if (leaderElection.isPresent() && sharding.isPresent()) {
+        throw new OperatorException("Leader election and sharding cannot be both enabled");
+      }
+      sharding.ifPresent(configuration -> {
+        shardManager = new ShardManager(kubernetesClient, controllers, configuration);
+        shardManager.start();
+      });
+      // with leader election, caches are synced right away but events are only processed once
+      // the Lease is acquired
+      controllers.start(leaderElection.isEmpty());
+      leaderElection.ifPresent(configuration -> {
+        leaderElectionManager =
+            new LeaderElectionManager(kubernetesClient, controllers, configuration);
+        leaderElectionManager.start();
+      });
     } catch (Exception e) {
       log.error("Error starting operator", e);
       stop();
@@ -111,7 +140,16 @@ public class Operator implements LifecycleAware {
     log.info(
         "Operator SDK {} is shutting down...", configurationService.getVersion().getSdkVersion());
 
+    if (leaderElectionManager != null) {
+      leaderElectionManager.stop();
+      leaderElectionManager = null;
+    }
+    if (shardManager != null) {
+      shardManager.stop();
+      shardManager = null;
+    }
     controllers.stop();
+    informerRegistry.stop();
 
     ExecutorServiceManager.stop();
     if (configurationService.closeClientOnStop()) {
@@ -161,7 +199,17 @@ public class Operator implements LifecycleAware {
 
     final var controller = new Controller<>(reconciler, configuration, kubernetesClient);
 
+    final var rateLimiter = operatorScopedRateLimiter(controller);
+    if (rateLimiter != null && operatorRateLimiter != null) {
+      rateLimiter.shareLimitOf(operatorRateLimiter);
+    }
     controllers.add(controller);
+    if (ConfigurationServiceProvider.instance().shareInformers()) {
+      controller.getEventSourceManager().setInformerRegistry(informerRegistry);
+    }
+    if (rateLimiter != null && operatorRateLimiter == null) {
+      operatorRateLimiter = rateLimiter;
+    }
 
     final var watchedNS = configuration.watchAllNamespaces() ? "[all namespaces]"
         : configuration.getEffectiveNamespaces();
@@ -190,6 +238,18 @@ public class Operator implements LifecycleAware {
     return register(reconciler, configToOverride.build());
   }
 
+  private static TokenBucketRateLimiter operatorScopedRateLimiter(Controller<?> controller) {
+    final var rateLimiter = controller.getRateLimiter();
+    if (rateLimiter instanceof TokenBucketRateLimiter) {
+      final var tokenBucketRateLimiter = (TokenBucketRateLimiter) rateLimiter;
+      if (tokenBucketRateLimiter.isActivated()
+          && tokenBucketRateLimiter.getScope() == RateLimited.Scope.OPERATOR) {
+        return tokenBucketRateLimiter;
+      }
+    }
+    return null;
+  }
+
   public Optional<RegisteredController> getRegisteredController(String name) {
     return controllers.get(name).map(RegisteredController.class::cast);
   }
@@ -205,6 +265,8 @@ public class Operator implements LifecycleAware {
   static class ControllerManager implements LifecycleAware {
     private final Map<String, Controller> controllers = new HashMap<>();
     private boolean started = false;
+    private boolean eventProcessingStarted = false;
+    private Predicate<ResourceID> ownership = resourceID -> true;
 
     public synchronized void shouldStart() {
       if (started) {
@@ -216,10 +278,56 @@ public class Operator implements LifecycleAware {
     }
 
     public synchronized void start() {
-      controllers().parallelStream().forEach(Controller::start);
+      start(true);
+    }
+
+    /**
+     * Starts all the controllers.
+     *
+     * @param startEventProcessing whether controllers reconcile resources right away, or only keep
+     *        their caches in sync until {@link #startEventProcessing()} is called
+     */
+    public synchronized void start(boolean startEventProcessing) {
+      controllers().parallelStream().forEach(c -> c.start(startEventProcessing));
+      eventProcessingStarted = startEventProcessing;
       started = true;
     }
 
+    public synchronized void startEventProcessing() {
+      controllers().parallelStream().forEach(Controller::startEventProcessing);
+      eventProcessingStarted = true;
+    }
+
+    public synchronized void stopEventProcessing() {
+      controllers().parallelStream().forEach(Controller::stopEventProcessing);
+      eventProcessingStarted = false;
+    }
+
+    /**
+     * Stops processing events, then waits for the reconciliations in progress to finish.
+     *
+     * @param timeout the maximal time to wait for the reconciliations in progress
+     * @return {@code true} if no reconciliation is in progress anymore
+     */
+    public synchronized boolean stopEventProcessing(Duration timeout) {
+      final var finished = controllers().parallelStream()
+          .map(c -> c.stopEventProcessing(timeout))
+          .reduce(true, Boolean::logicalAnd);
+      eventProcessingStarted = false;
+      return finished;
+    }
+
+    /**
+     * Restricts the primary resources reconciled by the controllers to the specified ones.
+     *
+     * @param ownership the predicate matching the primary resources owned by this replica
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void changeOwnership(Predicate<ResourceID> ownership) {
+      this.ownership = ownership;
+      controllers().parallelStream().forEach(c -> c.changeOwnership(ownership));
+    }
+
     public synchronized void stop() {
       controllers().parallelStream().forEach(closeable -> {
         log.debug("closing {}", closeable);
@@ -227,6 +335,7 @@ public class Operator implements LifecycleAware {
       });
 
       started = false;
+      eventProcessingStarted = false;
     }
 
     @SuppressWarnings("unchecked")
@@ -241,8 +350,9 @@ public class Operator implements LifecycleAware {
             + "' is already registered for resource '" + resourceTypeName + "'");
       }
       controllers.put(resourceTypeName, controller);
+      controller.changeOwnership(ownership);
       if (started) {
-        controller.start();
+        controller.start(eventProcessingStarted);
       }
     }
 
@@ -2,8 +2,10 @@ package io.javaoperatorsdk.operator;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.function.Predicate;
@@ -12,6 +14,7 @@ import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.builder.Builder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
@@ -96,23 +99,116 @@ public class ReconcilerUtils {
 
   // will be replaced with: https://github.com/fabric8io/kubernetes-client/issues/3816
   public static Object getSpec(HasMetadata resource) {
+    if (resource instanceof CustomResource) {
+      return ((CustomResource) resource).getSpec();
+    }
+    final var getter = SPEC_ACCESSORS.get(resource.getClass()).getter;
+    if (getter == null) {
+      throw new IllegalStateException("No spec found on resource");
+    }
     try {
-      Method getSpecMethod = resource.getClass().getMethod("getSpec");
-      return getSpecMethod.invoke(resource);
-    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      return (Object) getter.invokeExact(resource);
+    } catch (RuntimeException e) {
+      throw new IllegalStateException("No spec found on resource", e);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // checked exception thrown by the getter
       throw new IllegalStateException("No spec found on resource", e);
     }
   }
 
+  @SuppressWarnings("unchecked")
   public static Object setSpec(HasMetadata resource, Object spec) {
+    final var accessors = SPEC_ACCESSORS.get(resource.getClass());
+    if (resource instanceof CustomResource) {
+      // the spec type is erased from CustomResource.setSpec, check it as the setter handle would
+      if (spec != null && accessors.specType != null && !accessors.specType.isInstance(spec)) {
+        throw new IllegalStateException("No spec of type " + spec.getClass().getName()
+            + " found on resource of type " + resource.getClass().getName());
+      }
+      ((CustomResource) resource).setSpec(spec);
+      return null;
+    }
+    if (accessors.setter == null) {
+      throw new IllegalStateException("No spec found on resource");
+    }
     try {
-      Method setSpecMethod = resource.getClass().getMethod("setSpec", spec.getClass());
-      return setSpecMethod.invoke(resource, spec);
-    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      accessors.setter.invokeExact(resource, spec);
+      return null;
+    } catch (RuntimeException e) {
+      // including the ClassCastException thrown if the spec doesn't have the expected type
+      throw new IllegalStateException("No spec found on resource", e);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // checked exception thrown by the setter
       throw new IllegalStateException("No spec found on resource", e);
     }
   }
 
+  private static final ClassValue<SpecAccessors> SPEC_ACCESSORS = new ClassValue<>() {
+    @Override
+    protected SpecAccessors computeValue(Class<?> type) {
+      return new SpecAccessors(type);
+    }
+  };
+
+  /**
+   * Spec accessors of a resource class, looked up once per class instead of using reflection on
+   * each call. Accessors are {@code null} if the class doesn't have them or they're not accessible,
+   * as is the spec type if it cannot be resolved.
+   */
+  private static class SpecAccessors {
+    private static final MethodType GETTER_TYPE =
+        MethodType.methodType(Object.class, HasMetadata.class);
+    private static final MethodType SETTER_TYPE =
+        MethodType.methodType(void.class, HasMetadata.class, Object.class);
+
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final Class<?> specType;
+
+    private SpecAccessors(Class<?> resourceClass) {
+      final var lookup = MethodHandles.lookup();
+      MethodHandle getter = null;
+      MethodHandle setter = null;
+      Class<?> specType = null;
+      try {
+        final var getSpecMethod = resourceClass.getMethod("getSpec");
+        specType = CustomResource.class.isAssignableFrom(resourceClass)
+            ? customResourceSpecType(resourceClass)
+            : getSpecMethod.getReturnType();
+        getter = lookup.unreflect(getSpecMethod).asType(GETTER_TYPE);
+        final var setSpecMethod =
+            resourceClass.getMethod("setSpec", getSpecMethod.getReturnType());
+        setter = lookup.unreflect(setSpecMethod).asType(SETTER_TYPE);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        // accessing the spec will fail with an explicit error
+      }
+      this.getter = getter;
+      this.setter = setter;
+      this.specType = specType;
+    }
+
+    // the spec type argument given to CustomResource, if it is a class
+    private static Class<?> customResourceSpecType(Class<?> resourceClass) {
+      Class<?> current = resourceClass;
+      while (current.getSuperclass() != CustomResource.class) {
+        current = current.getSuperclass();
+      }
+      final var superType = current.getGenericSuperclass();
+      if (!(superType instanceof ParameterizedType)) {
+        return null;
+      }
+      final var specType = ((ParameterizedType) superType).getActualTypeArguments()[0];
+      if (specType instanceof ParameterizedType) {
+        return (Class<?>) ((ParameterizedType) specType).getRawType();
+      }
+      return specType instanceof Class ? (Class<?>) specType : null;
+    }
+  }
+
   public static <T> T loadYaml(Class<T> clazz, Class loader, String yaml) {
     try (InputStream is = loader.getResourceAsStream(yaml)) {
       if (Builder.class.isAssignableFrom(clazz)) {
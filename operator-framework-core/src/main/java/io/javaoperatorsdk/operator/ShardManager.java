@@ -0,0 +1,183 @@
+package io.javaoperatorsdk.operator;
+
+import java.time.ZonedDateTime;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.Operator.ControllerManager;
+import io.javaoperatorsdk.operator.api.config.ShardingConfiguration;
+import io.javaoperatorsdk.operator.processing.LifecycleAware;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Splits the primary resources between the replicas of the operator. Each replica periodically
+ * renews a Lease labeled with the shard group name and lists the Leases of the group to find the
+ * live members, from which a {@link ConsistentHashRing} is built. Controllers only reconcile the
+ * resources this replica owns on the ring and, when the members change, reconcile the resources
+ * they gained.
+ * <p>
+ * A replica which couldn't renew its Lease for longer than the Lease duration is considered gone by
+ * the other members, so it stops reconciling resources until it manages to renew it again.
+ * </p>
+ */
+class ShardManager implements LifecycleAware {
+
+  static final String SHARD_GROUP_LABEL = "javaoperatorsdk.io/shard-group";
+  private static final Logger log = LoggerFactory.getLogger(ShardManager.class);
+
+  private final KubernetesClient client;
+  private final ControllerManager controllers;
+  private final ShardingConfiguration configuration;
+  private final String identity;
+  private String namespace;
+  private ScheduledExecutorService scheduler;
+  private volatile ConsistentHashRing ring;
+  // System.nanoTime() of the last successful renewal of the Lease of this replica
+  private long lastRenewal;
+  private volatile boolean fenced;
+
+  ShardManager(KubernetesClient client, ControllerManager controllers,
+      ShardingConfiguration configuration) {
+    this.client = client;
+    this.controllers = controllers;
+    this.configuration = configuration;
+    this.identity = configuration.getIdentity().orElseGet(ShardManager::defaultIdentity);
+  }
+
+  private static String defaultIdentity() {
+    // the host name is the pod name when running in a cluster
+    final var hostName = System.getenv("HOSTNAME");
+    return hostName != null && !hostName.isBlank() ? hostName : UUID.randomUUID().toString();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    namespace = configuration.getLeaseNamespace().orElseGet(client::getNamespace);
+    if (namespace == null) {
+      throw new OperatorException("Namespace of the Leases of shard group '"
+          + configuration.getGroupName()
+          + "' couldn't be inferred from the current configuration, please specify it explicitly");
+    }
+    // join the group before controllers start so that they only process the resources they own
+    try {
+      refresh();
+    } catch (Exception e) {
+      throw new OperatorException(
+          "Couldn't join shard group '" + configuration.getGroupName() + "'", e);
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final var thread = new Thread(r, "shard-membership");
+      thread.setDaemon(true);
+      return thread;
+    });
+    final var period = configuration.getRenewPeriod().toMillis();
+    scheduler.scheduleAtFixedRate(this::refreshOrFence, period, period, TimeUnit.MILLISECONDS);
+    log.info("Joined shard group '{}' in namespace '{}' as '{}'", configuration.getGroupName(),
+        namespace, identity);
+  }
+
+  private synchronized void refreshOrFence() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      log.warn("Couldn't refresh membership of shard group '{}'", configuration.getGroupName(), e);
+      if (!fenced
+          && System.nanoTime() - lastRenewal > configuration.getLeaseDuration().toNanos()) {
+        log.warn("Lease of '{}' expired, stopping reconciliations until it is renewed", identity);
+        fenced = true;
+        controllers.changeOwnership(resourceID -> false);
+      }
+    }
+  }
+
+  private void refresh() {
+    renewLease();
+    final var members = liveMembers();
+    final var current = ring;
+    if (fenced || current == null || !current.getMembers().equals(members)) {
+      fenced = false;
+      final var updated = new ConsistentHashRing(members, configuration.getVirtualNodes());
+      ring = updated;
+      log.info("Members of shard group '{}' changed: {}", configuration.getGroupName(), members);
+      controllers.changeOwnership(ownership(updated));
+    }
+  }
+
+  private Predicate<ResourceID> ownership(ConsistentHashRing current) {
+    return resourceID -> identity.equals(current.ownerOf(resourceID));
+  }
+
+  private void renewLease() {
+    final var lease = new LeaseBuilder()
+        .withNewMetadata()
+        .withName(leaseName())
+        .withNamespace(namespace)
+        .addToLabels(SHARD_GROUP_LABEL, configuration.getGroupName())
+        .endMetadata()
+        .withNewSpec()
+        .withHolderIdentity(identity)
+        .withLeaseDurationSeconds((int) configuration.getLeaseDuration().toSeconds())
+        .withRenewTime(ZonedDateTime.now())
+        .endSpec()
+        .build();
+    client.resources(Lease.class).inNamespace(namespace).createOrReplace(lease);
+    lastRenewal = System.nanoTime();
+  }
+
+  private TreeSet<String> liveMembers() {
+    final var now = ZonedDateTime.now();
+    final var members = new TreeSet<String>();
+    members.add(identity);
+    client.resources(Lease.class).inNamespace(namespace)
+        .withLabel(SHARD_GROUP_LABEL, configuration.getGroupName())
+        .list().getItems().stream()
+        .map(Lease::getSpec)
+        .filter(spec -> spec != null && spec.getHolderIdentity() != null
+            && spec.getRenewTime() != null && spec.getLeaseDurationSeconds() != null
+            && spec.getRenewTime().plusSeconds(spec.getLeaseDurationSeconds()).isAfter(now))
+        .forEach(spec -> members.add(spec.getHolderIdentity()));
+    return members;
+  }
+
+  private String leaseName() {
+    return configuration.getGroupName() + "-" + identity;
+  }
+
+  boolean owns(ResourceID resourceID) {
+    final var current = ring;
+    return current != null && !fenced && identity.equals(current.ownerOf(resourceID));
+  }
+
+  String getIdentity() {
+    return identity;
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdownNow();
+    scheduler = null;
+    // leave the group right away instead of waiting for the Lease to expire
+    try {
+      client.resources(Lease.class).inNamespace(namespace).withName(leaseName()).delete();
+    } catch (Exception e) {
+      log.warn("Couldn't delete Lease of '{}' from shard group '{}'", identity,
+          configuration.getGroupName(), e);
+    }
+  }
+}
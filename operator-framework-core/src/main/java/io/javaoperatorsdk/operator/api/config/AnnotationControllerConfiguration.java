@@ -17,9 +17,13 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.Backlog;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Debounce;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
+import io.javaoperatorsdk.operator.api.reconciler.ThreadPool;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.VoidCondition;
@@ -150,6 +154,52 @@ public class AnnotationControllerConfiguration<P extends HasMetadata>
     return Optional.empty();
   }
 
+  @Override
+  public int maxConcurrentReconciliations() {
+    return valueOrDefault(annotation, ControllerConfiguration::maxConcurrentReconciliations,
+        Constants.NO_MAX_CONCURRENT_RECONCILIATIONS);
+  }
+
+  @Override
+  public Optional<ThreadPoolConfiguration> getThreadPoolConfiguration() {
+    final var threadPool = annotation.threadPool();
+    if (threadPool != null && threadPool.threads() != ThreadPool.USE_SHARED_POOL) {
+      return Optional.of(new ThreadPoolConfiguration(threadPool.threads(),
+          threadPool.queueCapacity(), threadPool.rejectionPolicy()));
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<ReconciliationTrigger> getReconciliationPriorities() {
+    final var priorities = valueOrDefault(annotation,
+        ControllerConfiguration::reconciliationPriorities, new ReconciliationTrigger[0]);
+    return priorities.length > 0 ? List.of(priorities) : ReconciliationTrigger.DEFAULT_PRIORITIES;
+  }
+
+  @Override
+  public Optional<DebounceConfiguration> getDebounceConfiguration() {
+    final var debounce = annotation.debounce();
+    if (debounce != null && debounce.window() > Debounce.NO_DEBOUNCE) {
+      final var unit = debounce.timeUnit().toChronoUnit();
+      final var window = Duration.of(debounce.window(), unit);
+      return Optional.of(debounce.maxDelay() == Debounce.DEFAULT_MAX_DELAY
+          ? new DebounceConfiguration(window)
+          : new DebounceConfiguration(window, Duration.of(debounce.maxDelay(), unit)));
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<BacklogConfiguration> getBacklogConfiguration() {
+    final var backlog = annotation.backlog();
+    if (backlog != null && backlog.maxPending() > Backlog.UNBOUNDED) {
+      return Optional.of(new BacklogConfiguration(backlog.maxPending(), backlog.overflowPolicy(),
+          Duration.of(backlog.maxBlockingTime(), backlog.timeUnit().toChronoUnit())));
+    }
+    return Optional.empty();
+  }
+
   @Override
   public RateLimiter getRateLimiter() {
     final Class<? extends RateLimiter> rateLimiterClass = annotation.rateLimiter();
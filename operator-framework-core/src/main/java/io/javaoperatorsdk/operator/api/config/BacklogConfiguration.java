@@ -0,0 +1,76 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the bounded admission of the events of a controller: once
+ * {@link #getMaxPending()} reconciliations are waiting for a thread, new events are held back
+ * according to the {@link OverflowPolicy} so that a burst of events, e.g. when importing a large
+ * number of resources, doesn't pile up in memory.
+ */
+public class BacklogConfiguration {
+
+  public static final Duration DEFAULT_MAX_BLOCKING_TIME = Duration.ofSeconds(10);
+
+  /**
+   * What to do with an event received while the backlog is full. Events deleting a resource are
+   * always accepted.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The thread delivering the event, typically an informer thread, is blocked until the backlog
+     * drains or the maximal blocking time elapses, slowing down event sources. Events delivered by
+     * threads running reconciliations or by the timer event source are never blocked.
+     */
+    BLOCK,
+    /**
+     * The event is dropped and the reconciliation of the associated resource is re-scheduled after
+     * a short delay so that it isn't lost.
+     */
+    SHED
+  }
+
+  private final int maxPending;
+  private final OverflowPolicy overflowPolicy;
+  private final Duration maxBlockingTime;
+
+  public BacklogConfiguration(int maxPending, OverflowPolicy overflowPolicy) {
+    this(maxPending, overflowPolicy, DEFAULT_MAX_BLOCKING_TIME);
+  }
+
+  public BacklogConfiguration(int maxPending, OverflowPolicy overflowPolicy,
+      Duration maxBlockingTime) {
+    if (maxPending <= 0) {
+      throw new IllegalArgumentException(
+          "Maximal number of pending reconciliations must be positive, was: " + maxPending);
+    }
+    if (maxBlockingTime == null || maxBlockingTime.isNegative()) {
+      throw new IllegalArgumentException(
+          "Maximal blocking time must not be negative, was: " + maxBlockingTime);
+    }
+    this.maxPending = maxPending;
+    this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+    this.maxBlockingTime = maxBlockingTime;
+  }
+
+  public int getMaxPending() {
+    return maxPending;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  public Duration getMaxBlockingTime() {
+    return maxBlockingTime;
+  }
+
+  @Override
+  public String toString() {
+    return "BacklogConfiguration{" +
+        "maxPending=" + maxPending +
+        ", overflowPolicy=" + overflowPolicy +
+        ", maxBlockingTime=" + maxBlockingTime +
+        '}';
+  }
+}
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -92,10 +93,24 @@ public interface ConfigurationService {
     return DEFAULT_RECONCILIATION_THREADS_NUMBER;
   }
 
+  int DEFAULT_POLLING_THREADS_NUMBER = 5;
+
   /**
-   * Used to clone custom resources.
+   * Retrieves the number of threads shared by all
+   * {@link io.javaoperatorsdk.operator.processing.event.source.polling.PerResourcePollingEventSource}
+   * instances to fetch the polled resources, bounding the number of concurrent fetches.
    *
-   * @return the ObjectMapper to use
+   * @return the number of threads used to poll resources
+   */
+  default int concurrentPollingThreads() {
+    return DEFAULT_POLLING_THREADS_NUMBER;
+  }
+
+  /**
+   * Used to clone custom resources. Defaults to {@link #DEFAULT_CLONER}, which round-trips the
+   * resources through JSON text, {@link TokenBufferCloner} is a faster alternative.
+   *
+   * @return the Cloner to use
    */
   default Cloner getResourceCloner() {
     return DEFAULT_CLONER;
@@ -121,6 +136,61 @@ public interface ConfigurationService {
     return Executors.newFixedThreadPool(concurrentReconciliationThreads());
   }
 
+  /**
+   * Whether reconciliations and workflow node executions should be run on virtual threads instead
+   * of the threads provided by {@link #getExecutorService()}. Virtual threads are only available on
+   * Java 21+ runtimes, the SDK falls back to {@link #getExecutorService()} on older runtimes. Since
+   * the number of concurrent reconciliations is then not bounded by a thread pool anymore, use
+   * {@link ControllerConfiguration#maxConcurrentReconciliations()} to limit it per controller.
+   *
+   * @return {@code true} if virtual threads should be used when available, {@code false} otherwise
+   *         (default)
+   */
+  default boolean useVirtualThreads() {
+    return false;
+  }
+
+  /**
+   * Retrieves the configuration of the leader election of the operator, if any. When configured,
+   * only the replica elected as leader reconciles resources while the other ones keep their caches
+   * in sync, ready to take over.
+   *
+   * @return the leader election configuration or {@link Optional#empty()} if all replicas reconcile
+   *         resources (default)
+   */
+  default Optional<LeaderElectionConfiguration> getLeaderElectionConfiguration() {
+    return Optional.empty();
+  }
+
+  /**
+   * Retrieves the configuration of the sharding of primary resources across the replicas of the
+   * operator, if any. When configured, each replica only reconciles the primary resources it owns.
+   * Sharding cannot be combined with leader election.
+   *
+   * @return the sharding configuration or {@link Optional#empty()} if each replica reconciles all
+   *         primary resources (default)
+   */
+  default Optional<ShardingConfiguration> getShardingConfiguration() {
+    return Optional.empty();
+  }
+
+  /**
+   * Whether event sources watching the same resources should share their informers, in which case
+   * informers are deduplicated across all the controllers and dependent resources of the operator
+   * by resource type, namespace, label selector, cache prune function and cache compression. Event
+   * sources sharing an informer also share its cache, so they hold the resources once and open a
+   * single watch. Cache prune functions are compared with {@code equals}, the built-in
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.CachePruneFunctions} being
+   * equal when they prune resources the same way. Informers are only shared within an
+   * {@link io.javaoperatorsdk.operator.Operator}, when event sources are started.
+   *
+   * @return {@code true} if informers should be shared, {@code false} if each event source should
+   *         use its own informers (default)
+   */
+  default boolean shareInformers() {
+    return false;
+  }
+
   default boolean closeClientOnStop() {
     return true;
   }
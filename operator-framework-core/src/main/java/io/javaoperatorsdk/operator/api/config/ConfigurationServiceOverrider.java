@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -16,22 +17,32 @@ public class ConfigurationServiceOverrider {
   private Config clientConfig;
   private boolean checkCR;
   private int threadNumber;
+  private int pollingThreadNumber;
   private Cloner cloner;
   private int timeoutSeconds;
   private boolean closeClientOnStop;
   private ObjectMapper objectMapper;
   private ExecutorService executorService = null;
+  private boolean useVirtualThreads;
+  private LeaderElectionConfiguration leaderElectionConfiguration;
+  private ShardingConfiguration shardingConfiguration;
+  private boolean shareInformers;
 
   ConfigurationServiceOverrider(ConfigurationService original) {
     this.original = original;
     this.clientConfig = original.getClientConfiguration();
     this.checkCR = original.checkCRDAndValidateLocalModel();
     this.threadNumber = original.concurrentReconciliationThreads();
+    this.pollingThreadNumber = original.concurrentPollingThreads();
     this.cloner = original.getResourceCloner();
     this.timeoutSeconds = original.getTerminationTimeoutSeconds();
     this.metrics = original.getMetrics();
     this.closeClientOnStop = original.closeClientOnStop();
     this.objectMapper = original.getObjectMapper();
+    this.useVirtualThreads = original.useVirtualThreads();
+    this.leaderElectionConfiguration = original.getLeaderElectionConfiguration().orElse(null);
+    this.shardingConfiguration = original.getShardingConfiguration().orElse(null);
+    this.shareInformers = original.shareInformers();
   }
 
 
@@ -50,6 +61,11 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  public ConfigurationServiceOverrider withConcurrentPollingThreads(int threadNumber) {
+    this.pollingThreadNumber = threadNumber;
+    return this;
+  }
+
   public ConfigurationServiceOverrider withResourceCloner(Cloner cloner) {
     this.cloner = cloner;
     return this;
@@ -75,6 +91,28 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  public ConfigurationServiceOverrider withVirtualThreads(boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withLeaderElectionConfiguration(
+      LeaderElectionConfiguration leaderElectionConfiguration) {
+    this.leaderElectionConfiguration = leaderElectionConfiguration;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withShardingConfiguration(
+      ShardingConfiguration shardingConfiguration) {
+    this.shardingConfiguration = shardingConfiguration;
+    return this;
+  }
+
+  public ConfigurationServiceOverrider withSharedInformers(boolean shareInformers) {
+    this.shareInformers = shareInformers;
+    return this;
+  }
+
   public ConfigurationServiceOverrider withObjectMapper(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
     return this;
@@ -102,6 +140,11 @@ public class ConfigurationServiceOverrider {
         return threadNumber;
       }
 
+      @Override
+      public int concurrentPollingThreads() {
+        return pollingThreadNumber;
+      }
+
       @Override
       public Cloner getResourceCloner() {
         return cloner;
@@ -131,6 +174,26 @@ public class ConfigurationServiceOverrider {
         }
       }
 
+      @Override
+      public boolean useVirtualThreads() {
+        return useVirtualThreads;
+      }
+
+      @Override
+      public Optional<LeaderElectionConfiguration> getLeaderElectionConfiguration() {
+        return Optional.ofNullable(leaderElectionConfiguration);
+      }
+
+      @Override
+      public Optional<ShardingConfiguration> getShardingConfiguration() {
+        return Optional.ofNullable(shardingConfiguration);
+      }
+
+      @Override
+      public boolean shareInformers() {
+        return shareInformers;
+      }
+
       @Override
       public ObjectMapper getObjectMapper() {
         return objectMapper;
@@ -8,7 +8,9 @@ import java.util.Optional;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.MaxReconciliationInterval;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.processing.event.rate.LinearRateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEventFilter;
@@ -84,6 +86,58 @@ public interface ControllerConfiguration<R extends HasMetadata> extends Resource
     return Optional.of(Duration.ofHours(MaxReconciliationInterval.DEFAULT_INTERVAL));
   }
 
+  /**
+   * Retrieves the maximal number of reconciliations of this controller that can be executed
+   * concurrently, or {@link Constants#NO_MAX_CONCURRENT_RECONCILIATIONS} if the number of
+   * concurrent reconciliations is only bounded by the executor service running them.
+   *
+   * @return the maximal number of concurrent reconciliations for this controller
+   */
+  default int maxConcurrentReconciliations() {
+    return Constants.NO_MAX_CONCURRENT_RECONCILIATIONS;
+  }
+
+  /**
+   * Retrieves the configuration of the thread pool dedicated to the reconciliations of this
+   * controller, if any.
+   *
+   * @return the dedicated thread pool configuration or {@link Optional#empty()} if the controller
+   *         uses the pool shared by all controllers
+   */
+  default Optional<ThreadPoolConfiguration> getThreadPoolConfiguration() {
+    return Optional.empty();
+  }
+
+  /**
+   * Retrieves the order, from highest to lowest priority, in which reconciliations of this
+   * controller waiting for a thread are dispatched depending on their
+   * {@link ReconciliationTrigger}. Triggers which are not listed come last.
+   *
+   * @return the reconciliation triggers ordered by decreasing priority
+   */
+  default List<ReconciliationTrigger> getReconciliationPriorities() {
+    return ReconciliationTrigger.DEFAULT_PRIORITIES;
+  }
+
+  /**
+   * Retrieves the configuration of the debouncing of the events of this controller, if any.
+   *
+   * @return the debounce configuration or {@link Optional#empty()} if resources are reconciled as
+   *         soon as an event is received
+   */
+  default Optional<DebounceConfiguration> getDebounceConfiguration() {
+    return Optional.empty();
+  }
+
+  /**
+   * Retrieves the configuration of the bounded admission of the events of this controller, if any.
+   *
+   * @return the backlog configuration or {@link Optional#empty()} if events are always accepted
+   */
+  default Optional<BacklogConfiguration> getBacklogConfiguration() {
+    return Optional.empty();
+  }
+
   @SuppressWarnings("unused")
   default ConfigurationService getConfigurationService() {
     return ConfigurationServiceProvider.instance();
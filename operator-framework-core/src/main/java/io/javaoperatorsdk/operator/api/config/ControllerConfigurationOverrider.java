@@ -7,10 +7,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResourceConfig;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEventFilter;
@@ -39,6 +41,13 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
   private OnUpdateFilter<R> onUpdateFilter;
   private GenericFilter<R> genericFilter;
   private RateLimiter rateLimiter;
+  private int maxConcurrentReconciliations;
+  private ThreadPoolConfiguration threadPoolConfiguration;
+  private List<ReconciliationTrigger> reconciliationPriorities;
+  private DebounceConfiguration debounceConfiguration;
+  private BacklogConfiguration backlogConfiguration;
+  private UnaryOperator<R> cachePruneFunction;
+  private boolean compressCache;
 
   private ControllerConfigurationOverrider(ControllerConfiguration<R> original) {
     finalizer = original.getFinalizerName();
@@ -57,6 +66,13 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     dependentResources.forEach(drs -> namedDependentResourceSpecs.put(drs.getName(), drs));
     this.original = original;
     this.rateLimiter = original.getRateLimiter();
+    this.maxConcurrentReconciliations = original.maxConcurrentReconciliations();
+    this.threadPoolConfiguration = original.getThreadPoolConfiguration().orElse(null);
+    this.reconciliationPriorities = original.getReconciliationPriorities();
+    this.debounceConfiguration = original.getDebounceConfiguration().orElse(null);
+    this.backlogConfiguration = original.getBacklogConfiguration().orElse(null);
+    this.cachePruneFunction = original.cachePruneFunction().orElse(null);
+    this.compressCache = original.compressCache();
   }
 
   public ControllerConfigurationOverrider<R> withFinalizer(String finalizer) {
@@ -127,6 +143,47 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     return this;
   }
 
+  public ControllerConfigurationOverrider<R> withMaxConcurrentReconciliations(
+      int maxConcurrentReconciliations) {
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withThreadPool(
+      ThreadPoolConfiguration threadPoolConfiguration) {
+    this.threadPoolConfiguration = threadPoolConfiguration;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withReconciliationPriorities(
+      ReconciliationTrigger... reconciliationPriorities) {
+    this.reconciliationPriorities = List.of(reconciliationPriorities);
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withDebounce(
+      DebounceConfiguration debounceConfiguration) {
+    this.debounceConfiguration = debounceConfiguration;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withBacklog(
+      BacklogConfiguration backlogConfiguration) {
+    this.backlogConfiguration = backlogConfiguration;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withCachePruneFunction(
+      UnaryOperator<R> cachePruneFunction) {
+    this.cachePruneFunction = cachePruneFunction;
+    return this;
+  }
+
+  public ControllerConfigurationOverrider<R> withCompressedCache(boolean compressCache) {
+    this.compressCache = compressCache;
+    return this;
+  }
+
   public ControllerConfigurationOverrider<R> withLabelSelector(String labelSelector) {
     this.labelSelector = labelSelector;
     return this;
@@ -212,7 +269,14 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
         onUpdateFilter,
         genericFilter,
         rateLimiter,
-        newDependentSpecs);
+        newDependentSpecs,
+        maxConcurrentReconciliations,
+        threadPoolConfiguration,
+        reconciliationPriorities,
+        debounceConfiguration,
+        backlogConfiguration,
+        cachePruneFunction,
+        compressCache);
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
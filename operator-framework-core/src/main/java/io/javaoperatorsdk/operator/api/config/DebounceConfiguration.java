@@ -0,0 +1,49 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the debouncing of the events of a controller: events received for an idle
+ * resource are merged into a single reconciliation if they are less than {@link #getWindow()}
+ * apart, the reconciliation being delayed by at most {@link #getMaxDelay()} after the first one.
+ */
+public class DebounceConfiguration {
+
+  public static final int DEFAULT_MAX_DELAY_FACTOR = 10;
+
+  private final Duration window;
+  private final Duration maxDelay;
+
+  public DebounceConfiguration(Duration window) {
+    this(window, window != null ? window.multipliedBy(DEFAULT_MAX_DELAY_FACTOR) : null);
+  }
+
+  public DebounceConfiguration(Duration window, Duration maxDelay) {
+    if (window == null || window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Debounce window must be positive, was: " + window);
+    }
+    if (maxDelay == null || maxDelay.compareTo(window) < 0) {
+      throw new IllegalArgumentException(
+          "Debounce maximal delay must be at least the debounce window: " + window + ", was: "
+              + maxDelay);
+    }
+    this.window = window;
+    this.maxDelay = maxDelay;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  @Override
+  public String toString() {
+    return "DebounceConfiguration{" +
+        "window=" + window +
+        ", maxDelay=" + maxDelay +
+        '}';
+  }
+}
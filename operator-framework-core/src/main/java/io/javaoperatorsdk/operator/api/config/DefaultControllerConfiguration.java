@@ -5,9 +5,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.processing.event.rate.LinearRateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEventFilter;
@@ -31,6 +34,11 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
   private final List<DependentResourceSpec> dependents;
   private final Duration reconciliationMaxInterval;
   private final RateLimiter rateLimiter;
+  private final int maxConcurrentReconciliations;
+  private final ThreadPoolConfiguration threadPoolConfiguration;
+  private final List<ReconciliationTrigger> reconciliationPriorities;
+  private final DebounceConfiguration debounceConfiguration;
+  private final BacklogConfiguration backlogConfiguration;
 
   // NOSONAR constructor is meant to provide all information
   public DefaultControllerConfiguration(
@@ -50,7 +58,39 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
       GenericFilter<R> genericFilter,
       RateLimiter rateLimiter,
       List<DependentResourceSpec> dependents) {
-    super(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces);
+    this(associatedControllerClassName, name, crdName, finalizer, generationAware, namespaces,
+        retry, labelSelector, resourceEventFilter, resourceClass, reconciliationMaxInterval,
+        onAddFilter, onUpdateFilter, genericFilter, rateLimiter, dependents,
+        Constants.NO_MAX_CONCURRENT_RECONCILIATIONS, null, null, null, null, null, false);
+  }
+
+  // NOSONAR constructor is meant to provide all information
+  public DefaultControllerConfiguration(
+      String associatedControllerClassName,
+      String name,
+      String crdName,
+      String finalizer,
+      boolean generationAware,
+      Set<String> namespaces,
+      Retry retry,
+      String labelSelector,
+      ResourceEventFilter<R> resourceEventFilter,
+      Class<R> resourceClass,
+      Duration reconciliationMaxInterval,
+      OnAddFilter<R> onAddFilter,
+      OnUpdateFilter<R> onUpdateFilter,
+      GenericFilter<R> genericFilter,
+      RateLimiter rateLimiter,
+      List<DependentResourceSpec> dependents,
+      int maxConcurrentReconciliations,
+      ThreadPoolConfiguration threadPoolConfiguration,
+      List<ReconciliationTrigger> reconciliationPriorities,
+      DebounceConfiguration debounceConfiguration,
+      BacklogConfiguration backlogConfiguration,
+      UnaryOperator<R> cachePruneFunction,
+      boolean compressCache) {
+    super(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces,
+        cachePruneFunction, compressCache);
     this.associatedControllerClassName = associatedControllerClassName;
     this.name = name;
     this.crdName = crdName;
@@ -65,6 +105,12 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
     this.rateLimiter =
         rateLimiter != null ? rateLimiter : LinearRateLimiter.deactivatedRateLimiter();
     this.dependents = dependents != null ? dependents : Collections.emptyList();
+    this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    this.threadPoolConfiguration = threadPoolConfiguration;
+    this.reconciliationPriorities = reconciliationPriorities != null ? reconciliationPriorities
+        : ReconciliationTrigger.DEFAULT_PRIORITIES;
+    this.debounceConfiguration = debounceConfiguration;
+    this.backlogConfiguration = backlogConfiguration;
   }
 
   @Override
@@ -116,4 +162,29 @@ public class DefaultControllerConfiguration<R extends HasMetadata>
   public RateLimiter getRateLimiter() {
     return rateLimiter;
   }
+
+  @Override
+  public int maxConcurrentReconciliations() {
+    return maxConcurrentReconciliations;
+  }
+
+  @Override
+  public Optional<ThreadPoolConfiguration> getThreadPoolConfiguration() {
+    return Optional.ofNullable(threadPoolConfiguration);
+  }
+
+  @Override
+  public List<ReconciliationTrigger> getReconciliationPriorities() {
+    return reconciliationPriorities;
+  }
+
+  @Override
+  public Optional<DebounceConfiguration> getDebounceConfiguration() {
+    return Optional.ofNullable(debounceConfiguration);
+  }
+
+  @Override
+  public Optional<BacklogConfiguration> getBacklogConfiguration() {
+    return Optional.ofNullable(backlogConfiguration);
+  }
 }
@@ -2,6 +2,7 @@ package io.javaoperatorsdk.operator.api.config;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
@@ -19,6 +20,8 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
   private final OnAddFilter<R> onAddFilter;
   private final OnUpdateFilter<R> onUpdateFilter;
   private final GenericFilter<R> genericFilter;
+  private final UnaryOperator<R> cachePruneFunction;
+  private final boolean compressCache;
 
   public DefaultResourceConfiguration(String labelSelector, Class<R> resourceClass,
       OnAddFilter<R> onAddFilter,
@@ -31,6 +34,22 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
   public DefaultResourceConfiguration(String labelSelector, Class<R> resourceClass,
       OnAddFilter<R> onAddFilter,
       OnUpdateFilter<R> onUpdateFilter, GenericFilter<R> genericFilter, Set<String> namespaces) {
+    this(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces,
+        null);
+  }
+
+  public DefaultResourceConfiguration(String labelSelector, Class<R> resourceClass,
+      OnAddFilter<R> onAddFilter,
+      OnUpdateFilter<R> onUpdateFilter, GenericFilter<R> genericFilter, Set<String> namespaces,
+      UnaryOperator<R> cachePruneFunction) {
+    this(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces,
+        cachePruneFunction, false);
+  }
+
+  public DefaultResourceConfiguration(String labelSelector, Class<R> resourceClass,
+      OnAddFilter<R> onAddFilter,
+      OnUpdateFilter<R> onUpdateFilter, GenericFilter<R> genericFilter, Set<String> namespaces,
+      UnaryOperator<R> cachePruneFunction, boolean compressCache) {
     this.labelSelector = labelSelector;
     this.resourceClass = resourceClass;
     this.onAddFilter = onAddFilter;
@@ -39,6 +58,8 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
     this.namespaces =
         namespaces == null || namespaces.isEmpty() ? DEFAULT_NAMESPACES_SET
             : namespaces;
+    this.cachePruneFunction = cachePruneFunction;
+    this.compressCache = compressCache;
   }
 
   @Override
@@ -74,4 +95,14 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
   public Optional<GenericFilter<R>> genericFilter() {
     return Optional.ofNullable(genericFilter);
   }
+
+  @Override
+  public Optional<UnaryOperator<R>> cachePruneFunction() {
+    return Optional.ofNullable(cachePruneFunction);
+  }
+
+  @Override
+  public boolean compressCache() {
+    return compressCache;
+  }
 }
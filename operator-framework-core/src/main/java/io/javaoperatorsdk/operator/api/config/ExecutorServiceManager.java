@@ -1,44 +1,141 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
+
 public class ExecutorServiceManager {
   private static final Logger log = LoggerFactory.getLogger(ExecutorServiceManager.class);
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+      lookupVirtualThreadPerTaskExecutorFactory();
   private static ExecutorServiceManager instance;
 
+  private static final String SHARED_EXECUTOR_NAME = "shared";
+  private static final String POLLING_EXECUTOR_NAME = "polling";
+
   private final ExecutorService executor;
+  private final int executorThreads;
+  private final ScheduledExecutorService pollingExecutor;
+  private final Map<String, ExecutorService> controllerExecutors = new ConcurrentHashMap<>();
   private final int terminationTimeoutSeconds;
 
-  private ExecutorServiceManager(InstrumentedExecutorService executor,
-      int terminationTimeoutSeconds) {
+  private ExecutorServiceManager(InstrumentedExecutorService executor, int executorThreads,
+      ScheduledExecutorService pollingExecutor, int terminationTimeoutSeconds) {
     this.executor = executor;
+    this.executorThreads = executorThreads;
+    this.pollingExecutor = pollingExecutor;
     this.terminationTimeoutSeconds = terminationTimeoutSeconds;
   }
 
   public static void init() {
     if (instance == null) {
       final var configuration = ConfigurationServiceProvider.instance();
+      final var executorService = createExecutorService(configuration);
       instance = new ExecutorServiceManager(
-          new InstrumentedExecutorService(configuration.getExecutorService()),
+          new InstrumentedExecutorService(
+              configuration.getMetrics().monitorExecutorService(executorService,
+                  SHARED_EXECUTOR_NAME)),
+          maxThreads(executorService),
+          createPollingExecutorService(configuration.concurrentPollingThreads()),
           configuration.getTerminationTimeoutSeconds());
       log.debug("Initialized ExecutorServiceManager executor: {}, timeout: {}",
-          configuration.getExecutorService().getClass(),
+          executorService.getClass(),
           configuration.getTerminationTimeoutSeconds());
     } else {
       log.debug("Already started, reusing already setup instance!");
     }
   }
 
+  /**
+   * Creates a new {@link ExecutorService} to run the nodes of a
+   * {@link io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow}, running each node
+   * on its own virtual thread if {@link ConfigurationService#useVirtualThreads()} is set and
+   * supported by the current runtime.
+   *
+   * @return a new {@link ExecutorService} to use for workflow node executions
+   */
+  public static ExecutorService newWorkflowExecutorService() {
+    return createExecutorService(ConfigurationServiceProvider.instance());
+  }
+
+  /**
+   * Checks whether the current runtime supports virtual threads, i.e. runs on Java 21+.
+   *
+   * @return {@code true} if virtual threads are available, {@code false} otherwise
+   */
+  public static boolean virtualThreadsSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  private static ExecutorService createExecutorService(ConfigurationService configuration) {
+    if (configuration.useVirtualThreads()) {
+      if (virtualThreadsSupported()) {
+        return newVirtualThreadPerTaskExecutor();
+      }
+      log.warn("Virtual threads were requested but are not supported by Java {} runtime. "
+          + "Falling back to the configured executor service.",
+          System.getProperty("java.version"));
+    }
+    return configuration.getExecutorService();
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke();
+    } catch (Throwable e) {
+      throw new OperatorException("Couldn't create virtual thread executor", e);
+    }
+  }
+
+  // virtual threads are only available on Java 21+ while the SDK targets Java 11, so the factory
+  // method is resolved dynamically
+  private static MethodHandle lookupVirtualThreadPerTaskExecutorFactory() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Executors.class,
+          "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static ScheduledExecutorService createPollingExecutorService(int threads) {
+    final var threadNumber = new AtomicInteger();
+    final var executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+      final var thread = new Thread(runnable, "polling-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.setRemoveOnCancelPolicy(true);
+    // pending polls are pointless once stopped, don't wait for them on shutdown
+    executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    return executor;
+  }
+
   public static void stop() {
     if (instance != null) {
       instance.doStop();
@@ -60,9 +157,92 @@ public class ExecutorServiceManager {
     return executor;
   }
 
+  /**
+   * Retrieves the maximal number of tasks the shared {@link #executorService()} runs at the same
+   * time, as far as it can be told from the executor: the maximal pool size of
+   * {@link ThreadPoolExecutor}s, e.g.
+   * {@link ConfigurationService#concurrentReconciliationThreads()} for the default executor,
+   * unbounded for other executors, e.g. for virtual threads.
+   *
+   * @return the maximal number of threads of the shared executor, {@link Integer#MAX_VALUE} if
+   *         unbounded or unknown
+   */
+  public int executorServiceThreads() {
+    return executorThreads;
+  }
+
+  private static int maxThreads(ExecutorService executor) {
+    return executor instanceof ThreadPoolExecutor
+        ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
+        : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Retrieves the {@link ScheduledExecutorService} shared by polling event sources to schedule and
+   * perform their fetches. Its number of threads is bounded by
+   * {@link ConfigurationService#concurrentPollingThreads()}.
+   *
+   * @return the {@link ScheduledExecutorService} to use to poll resources
+   */
+  public ScheduledExecutorService pollingExecutorService() {
+    return pollingExecutor;
+  }
+
+  /**
+   * Retrieves the {@link ExecutorService} running the reconciliations of the controller associated
+   * with the specified configuration: a pool dedicated to that controller if
+   * {@link ControllerConfiguration#getThreadPoolConfiguration()} is set, the shared pool otherwise.
+   *
+   * @param configuration the configuration of the controller
+   * @return the {@link ExecutorService} to use for the reconciliations of the controller
+   */
+  public ExecutorService executorServiceFor(ControllerConfiguration<?> configuration) {
+    return configuration.getThreadPoolConfiguration()
+        .map(poolConfiguration -> controllerExecutors.computeIfAbsent(configuration.getName(),
+            name -> createControllerExecutorService(name, poolConfiguration)))
+        .orElse(executor);
+  }
+
+  /**
+   * Retrieves the name of the pool running the reconciliations of the controller associated with
+   * the specified configuration, as passed to
+   * {@link io.javaoperatorsdk.operator.api.monitoring.Metrics#monitorExecutorService(ExecutorService, String)}.
+   *
+   * @param configuration the configuration of the controller
+   * @return the name of the controller if it has a dedicated pool, {@code shared} otherwise
+   */
+  public static String executorServiceNameFor(ControllerConfiguration<?> configuration) {
+    return configuration.getThreadPoolConfiguration().isPresent() ? configuration.getName()
+        : SHARED_EXECUTOR_NAME;
+  }
+
+  private static ExecutorService createControllerExecutorService(String controllerName,
+      ThreadPoolConfiguration configuration) {
+    final BlockingQueue<Runnable> queue = configuration.isQueueBounded()
+        ? new ArrayBlockingQueue<>(configuration.getQueueCapacity())
+        : new LinkedBlockingQueue<>();
+    final RejectedExecutionHandler rejectionHandler =
+        configuration.getRejectionPolicy() == RejectionPolicy.CALLER_RUNS
+            ? new ThreadPoolExecutor.CallerRunsPolicy()
+            : new ThreadPoolExecutor.AbortPolicy();
+    final var executor = new ThreadPoolExecutor(configuration.getThreads(),
+        configuration.getThreads(), 0L, TimeUnit.MILLISECONDS, queue, rejectionHandler);
+    log.debug("Created dedicated executor for controller: {}, configuration: {}", controllerName,
+        configuration);
+    return new InstrumentedExecutorService(ConfigurationServiceProvider.instance().getMetrics()
+        .monitorExecutorService(executor, controllerName));
+  }
+
   private void doStop() {
+    shutdown(SHARED_EXECUTOR_NAME, executor);
+    shutdown(POLLING_EXECUTOR_NAME, pollingExecutor);
+    controllerExecutors.forEach(this::shutdown);
+    controllerExecutors.clear();
+  }
+
+  private void shutdown(String name, ExecutorService executor) {
     try {
-      log.debug("Closing executor");
+      log.debug("Closing executor: {}", name);
       executor.shutdown();
       if (!executor.awaitTermination(terminationTimeoutSeconds, TimeUnit.SECONDS)) {
         executor.shutdownNow(); // if we timed out, waiting, cancel everything
@@ -0,0 +1,98 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration of the Lease based leader election of the operator. When configured, all the
+ * replicas of the operator start their controllers and keep their caches in sync, but only the
+ * replica holding the Lease reconciles resources, so that a standby replica can take over without
+ * having to re-list all resources.
+ */
+public class LeaderElectionConfiguration {
+
+  public static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(15);
+  public static final Duration DEFAULT_RENEW_DEADLINE = Duration.ofSeconds(10);
+  public static final Duration DEFAULT_RETRY_PERIOD = Duration.ofSeconds(2);
+
+  private final String leaseName;
+  private final String leaseNamespace;
+  private final String identity;
+  private final Duration leaseDuration;
+  private final Duration renewDeadline;
+  private final Duration retryPeriod;
+
+  /**
+   * Creates a leader election configuration using a Lease in the namespace of the Kubernetes
+   * client.
+   *
+   * @param leaseName the name of the Lease used to elect the leader
+   */
+  public LeaderElectionConfiguration(String leaseName) {
+    this(leaseName, null);
+  }
+
+  public LeaderElectionConfiguration(String leaseName, String leaseNamespace) {
+    this(leaseName, leaseNamespace, null, DEFAULT_LEASE_DURATION, DEFAULT_RENEW_DEADLINE,
+        DEFAULT_RETRY_PERIOD);
+  }
+
+  /**
+   * @param leaseName the name of the Lease used to elect the leader
+   * @param leaseNamespace the namespace of the Lease, {@code null} to use the namespace of the
+   *        Kubernetes client
+   * @param identity the identity of this replica, {@code null} to use the host name, which is the
+   *        pod name when running in a cluster
+   * @param leaseDuration how long standby replicas wait before acquiring a Lease which wasn't
+   *        renewed
+   * @param renewDeadline how long the leader keeps trying to renew the Lease before giving up
+   *        leadership
+   * @param retryPeriod how long to wait between attempts to acquire or renew the Lease
+   */
+  public LeaderElectionConfiguration(String leaseName, String leaseNamespace, String identity,
+      Duration leaseDuration, Duration renewDeadline, Duration retryPeriod) {
+    this.leaseName = Objects.requireNonNull(leaseName, "Lease name must not be null");
+    this.leaseNamespace = leaseNamespace;
+    this.identity = identity;
+    this.leaseDuration = leaseDuration;
+    this.renewDeadline = renewDeadline;
+    this.retryPeriod = retryPeriod;
+  }
+
+  public String getLeaseName() {
+    return leaseName;
+  }
+
+  public Optional<String> getLeaseNamespace() {
+    return Optional.ofNullable(leaseNamespace);
+  }
+
+  public Optional<String> getIdentity() {
+    return Optional.ofNullable(identity);
+  }
+
+  public Duration getLeaseDuration() {
+    return leaseDuration;
+  }
+
+  public Duration getRenewDeadline() {
+    return renewDeadline;
+  }
+
+  public Duration getRetryPeriod() {
+    return retryPeriod;
+  }
+
+  @Override
+  public String toString() {
+    return "LeaderElectionConfiguration{" +
+        "leaseName='" + leaseName + '\'' +
+        ", leaseNamespace='" + leaseNamespace + '\'' +
+        ", identity='" + identity + '\'' +
+        ", leaseDuration=" + leaseDuration +
+        ", renewDeadline=" + renewDeadline +
+        ", retryPeriod=" + retryPeriod +
+        '}';
+  }
+}
@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.api.config;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
@@ -33,6 +34,48 @@ public interface ResourceConfiguration<R extends HasMetadata> {
     return Optional.empty();
   }
 
+  /**
+   * Function applied to the resources before they are stored in the informer caches, typically to
+   * drop the parts of the resources the reconciler never reads, such as managed fields, in order to
+   * reduce memory usage. See
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.CachePruneFunctions} for
+   * built-in functions.
+   * <p>
+   * The function must prune the given resource itself and return it: it is applied to the instance
+   * held by the cache, which might already be visible to other threads, so fields should be
+   * replaced rather than modified in place. It should be idempotent and must not change the name,
+   * namespace or resource version of the resource.
+   * </p>
+   * <p>
+   * Resources read from the cache miss the pruned fields, so writing them back with a full replace
+   * (PUT) drops these fields on the server, e.g. the
+   * {@code kubectl.kubernetes.io/last-applied-configuration} annotation, which breaks later
+   * {@code kubectl apply} runs. The framework therefore patches the changes made to primary
+   * resources pruned this way, when adding or removing finalizers or when the reconciler returns an
+   * {@link io.javaoperatorsdk.operator.api.reconciler.UpdateControl} updating the resource, instead
+   * of replacing them. Reconcilers or dependent resources writing pruned resources themselves must
+   * do the same, or only prune fields they never write back.
+   * </p>
+   *
+   * @return the function pruning resources before they are cached, if any
+   */
+  default Optional<UnaryOperator<R>> cachePruneFunction() {
+    return Optional.empty();
+  }
+
+  /**
+   * Whether the informer caches should keep the resources serialized and compressed rather than as
+   * objects, for resource types with so many instances that caching them as objects takes up too
+   * much heap. Resources are then decoded when read, the most recently read ones being kept
+   * decoded, which trades memory for CPU on every cache miss and every event.
+   *
+   * @return {@code true} if resources should be cached compressed, {@code false} otherwise
+   *         (default)
+   */
+  default boolean compressCache() {
+    return false;
+  }
+
   /**
    * Retrieves the label selector that is used to filter which resources are actually watched by the
    * associated event source. See the official documentation on the
@@ -0,0 +1,107 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration of the sharding of primary resources across the replicas of the operator. Each
+ * replica advertises its membership of the shard group with a Lease it renews periodically and
+ * primary resources are split between live members by consistent hashing of their
+ * {@link io.javaoperatorsdk.operator.processing.event.ResourceID}, so that only a fraction of the
+ * resources move when replicas join or leave the group. Each replica only reconciles the primary
+ * resources it owns.
+ */
+public class ShardingConfiguration {
+
+  public static final Duration DEFAULT_LEASE_DURATION = Duration.ofSeconds(15);
+  public static final Duration DEFAULT_RENEW_PERIOD = Duration.ofSeconds(5);
+  public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+  private final String groupName;
+  private final String leaseNamespace;
+  private final String identity;
+  private final Duration leaseDuration;
+  private final Duration renewPeriod;
+  private final int virtualNodes;
+
+  /**
+   * Creates a sharding configuration using Leases in the namespace of the Kubernetes client.
+   *
+   * @param groupName the name of the shard group, used to name and label the Leases of its members
+   */
+  public ShardingConfiguration(String groupName) {
+    this(groupName, null);
+  }
+
+  public ShardingConfiguration(String groupName, String leaseNamespace) {
+    this(groupName, leaseNamespace, null, DEFAULT_LEASE_DURATION, DEFAULT_RENEW_PERIOD,
+        DEFAULT_VIRTUAL_NODES);
+  }
+
+  /**
+   * @param groupName the name of the shard group, used to name and label the Leases of its members
+   * @param leaseNamespace the namespace of the Leases, {@code null} to use the namespace of the
+   *        Kubernetes client
+   * @param identity the identity of this replica, {@code null} to use the host name, which is the
+   *        pod name when running in a cluster
+   * @param leaseDuration how long a member is considered alive after it last renewed its Lease
+   * @param renewPeriod how often the Lease of this replica is renewed and the members of the group
+   *        checked, must be shorter than the Lease duration
+   * @param virtualNodes the number of points each member has on the hash ring, the higher the more
+   *        evenly resources are split
+   */
+  public ShardingConfiguration(String groupName, String leaseNamespace, String identity,
+      Duration leaseDuration, Duration renewPeriod, int virtualNodes) {
+    this.groupName = Objects.requireNonNull(groupName, "Shard group name must not be null");
+    if (renewPeriod.compareTo(leaseDuration) >= 0) {
+      throw new IllegalArgumentException("Renew period: " + renewPeriod
+          + " must be shorter than Lease duration: " + leaseDuration);
+    }
+    if (virtualNodes <= 0) {
+      throw new IllegalArgumentException(
+          "Number of virtual nodes must be positive, was: " + virtualNodes);
+    }
+    this.leaseNamespace = leaseNamespace;
+    this.identity = identity;
+    this.leaseDuration = leaseDuration;
+    this.renewPeriod = renewPeriod;
+    this.virtualNodes = virtualNodes;
+  }
+
+  public String getGroupName() {
+    return groupName;
+  }
+
+  public Optional<String> getLeaseNamespace() {
+    return Optional.ofNullable(leaseNamespace);
+  }
+
+  public Optional<String> getIdentity() {
+    return Optional.ofNullable(identity);
+  }
+
+  public Duration getLeaseDuration() {
+    return leaseDuration;
+  }
+
+  public Duration getRenewPeriod() {
+    return renewPeriod;
+  }
+
+  public int getVirtualNodes() {
+    return virtualNodes;
+  }
+
+  @Override
+  public String toString() {
+    return "ShardingConfiguration{" +
+        "groupName='" + groupName + '\'' +
+        ", leaseNamespace='" + leaseNamespace + '\'' +
+        ", identity='" + identity + '\'' +
+        ", leaseDuration=" + leaseDuration +
+        ", renewPeriod=" + renewPeriod +
+        ", virtualNodes=" + virtualNodes +
+        '}';
+  }
+}
@@ -0,0 +1,75 @@
+package io.javaoperatorsdk.operator.api.config;
+
+/**
+ * Configuration of a thread pool dedicated to the reconciliations of a single controller, isolating
+ * it from the other controllers which share the pool provided by
+ * {@link ConfigurationService#getExecutorService()}.
+ */
+public class ThreadPoolConfiguration {
+
+  public static final int UNBOUNDED_QUEUE = -1;
+
+  /**
+   * What to do with a reconciliation request when the queue of the dedicated pool is full.
+   */
+  public enum RejectionPolicy {
+    /**
+     * The reconciliation request is kept and retried after a short delay, the calling thread is not
+     * blocked.
+     */
+    RESCHEDULE,
+    /**
+     * The reconciliation is executed by the thread which submitted it, typically an informer
+     * thread, slowing down event delivery until the pool catches up.
+     */
+    CALLER_RUNS
+  }
+
+  private final int threads;
+  private final int queueCapacity;
+  private final RejectionPolicy rejectionPolicy;
+
+  public ThreadPoolConfiguration(int threads) {
+    this(threads, UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE);
+  }
+
+  public ThreadPoolConfiguration(int threads, int queueCapacity,
+      RejectionPolicy rejectionPolicy) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads must be positive, was: " + threads);
+    }
+    if (queueCapacity == 0 || queueCapacity < UNBOUNDED_QUEUE) {
+      throw new IllegalArgumentException(
+          "Queue capacity must be positive or " + UNBOUNDED_QUEUE + " for an unbounded queue, was: "
+              + queueCapacity);
+    }
+    this.threads = threads;
+    this.queueCapacity = queueCapacity;
+    this.rejectionPolicy = rejectionPolicy != null ? rejectionPolicy : RejectionPolicy.RESCHEDULE;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public boolean isQueueBounded() {
+    return queueCapacity != UNBOUNDED_QUEUE;
+  }
+
+  public RejectionPolicy getRejectionPolicy() {
+    return rejectionPolicy;
+  }
+
+  @Override
+  public String toString() {
+    return "ThreadPoolConfiguration{" +
+        "threads=" + threads +
+        ", queueCapacity=" + queueCapacity +
+        ", rejectionPolicy=" + rejectionPolicy +
+        '}';
+  }
+}
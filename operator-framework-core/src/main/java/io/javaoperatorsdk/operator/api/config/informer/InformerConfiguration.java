@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.api.config.informer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.config.DefaultResourceConfiguration;
@@ -38,8 +39,11 @@ public interface InformerConfiguration<R extends HasMetadata>
         OnAddFilter<R> onAddFilter,
         OnUpdateFilter<R> onUpdateFilter,
         OnDeleteFilter<R> onDeleteFilter,
-        GenericFilter<R> genericFilter) {
-      super(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces);
+        GenericFilter<R> genericFilter,
+        UnaryOperator<R> cachePruneFunction,
+        boolean compressCache) {
+      super(labelSelector, resourceClass, onAddFilter, onUpdateFilter, genericFilter, namespaces,
+          cachePruneFunction, compressCache);
       this.followControllerNamespaceChanges = followControllerNamespaceChanges;
 
       this.primaryToSecondaryMapper = primaryToSecondaryMapper;
@@ -102,6 +106,8 @@ public interface InformerConfiguration<R extends HasMetadata>
     private OnDeleteFilter<R> onDeleteFilter;
     private GenericFilter<R> genericFilter;
     private boolean inheritControllerNamespacesOnChange = false;
+    private UnaryOperator<R> cachePruneFunction;
+    private boolean compressCache;
 
     private InformerConfigurationBuilder(Class<R> resourceClass) {
       this.resourceClass = resourceClass;
@@ -202,12 +208,23 @@ public interface InformerConfiguration<R extends HasMetadata>
       return this;
     }
 
+    public InformerConfigurationBuilder<R> withCachePruneFunction(
+        UnaryOperator<R> cachePruneFunction) {
+      this.cachePruneFunction = cachePruneFunction;
+      return this;
+    }
+
+    public InformerConfigurationBuilder<R> withCompressedCache(boolean compressCache) {
+      this.compressCache = compressCache;
+      return this;
+    }
+
     public InformerConfiguration<R> build() {
       return new DefaultInformerConfiguration<>(labelSelector, resourceClass,
           primaryToSecondaryMapper,
           secondaryToPrimaryMapper,
           namespaces, inheritControllerNamespacesOnChange, onAddFilter, onUpdateFilter,
-          onDeleteFilter, genericFilter);
+          onDeleteFilter, genericFilter, cachePruneFunction, compressCache);
     }
   }
 
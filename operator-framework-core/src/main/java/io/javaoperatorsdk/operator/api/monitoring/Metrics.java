@@ -1,10 +1,14 @@
 package io.javaoperatorsdk.operator.api.monitoring;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
@@ -211,4 +215,88 @@ public interface Metrics {
   default <T extends Map<?, ?>> T monitorSizeOf(T map, String name) {
     return map;
   }
+
+  /**
+   * Monitors the specified {@link ExecutorService} running reconciliations, e.g. to track its
+   * number of active threads. This is called for the pool shared by all controllers and for each
+   * pool dedicated to a controller. Note that reconciliations wait for a thread in the backlog of
+   * their controller, not in the queue of the executor, which only holds the workers running that
+   * backlog and is therefore almost always empty: the queue depth of a pool is the sum of the
+   * backlogs reported by {@link #monitorBacklog(String, String, Collection)} for that pool.
+   *
+   * @param executorService the {@link ExecutorService} to monitor
+   * @param name the name of the pool, either {@code shared} or the name of the controller the pool
+   *        is dedicated to
+   * @return the {@link ExecutorService} the SDK should use, either the one passed in or a
+   *         monitoring wrapper around it
+   */
+  default ExecutorService monitorExecutorService(ExecutorService executorService, String name) {
+    return executorService;
+  }
+
+  /**
+   * Called when a polling event source starts fetching the resources associated with a primary
+   * resource, with the time elapsed since the fetch was due. A growing lag indicates that the
+   * polling threads cannot keep up with the number of polled resources or that fetches are too
+   * slow.
+   *
+   * @param name the name identifying the polling event source, by default the simple name of the
+   *        polled resource type
+   * @param lag the delay between the time the fetch was scheduled for and the time it started
+   */
+  default void pollingLag(String name, Duration lag) {}
+
+  /**
+   * Called when a reconciliation leaves the queue of reconciliations waiting for a thread, with the
+   * time it spent waiting. Reconciliations are dispatched according to the priority of what
+   * triggered them so the wait time is reported per {@link ReconciliationTrigger}, see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#getReconciliationPriorities()}.
+   *
+   * @param controllerName the name of the controller the reconciliation belongs to
+   * @param trigger what triggered the reconciliation
+   * @param waitTime the time elapsed between the reconciliation being queued and dispatched
+   */
+  default void reconciliationQueueWait(String controllerName, ReconciliationTrigger trigger,
+      Duration waitTime) {}
+
+  /**
+   * Monitors the reconciliations of a controller waiting for a thread, e.g. to track the depth of
+   * its backlog, i.e. its part of the queue depth of the pool the controller runs on.
+   *
+   * @param controllerName the name of the controller
+   * @param poolName the name of the pool running the reconciliations of the controller, as passed
+   *        to {@link #monitorExecutorService(ExecutorService, String)}
+   * @param backlog the reconciliations waiting for a thread, which must not be modified
+   */
+  default void monitorBacklog(String controllerName, String poolName, Collection<?> backlog) {}
+
+  /**
+   * Called when an event is dropped because the backlog of the controller is full, see
+   * {@link io.javaoperatorsdk.operator.api.config.BacklogConfiguration.OverflowPolicy#SHED}. The
+   * reconciliation of the associated resource is re-scheduled.
+   *
+   * @param controllerName the name of the controller
+   * @param event the dropped event
+   */
+  default void eventShed(String controllerName, Event event) {}
+
+  /**
+   * Called when the backlog of a controller is empty again after having been full, with the time it
+   * took to drain it.
+   *
+   * @param controllerName the name of the controller
+   * @param timeToDrain the time elapsed between the backlog being found full and it being empty
+   */
+  default void backlogDrained(String controllerName, Duration timeToDrain) {}
+
+  /**
+   * Monitors the per-resource processing states of a controller, e.g. to track their number. States
+   * are only kept for resources with pending events, ongoing reconciliations, retries or rate
+   * limits.
+   *
+   * @param controllerName the name of the controller
+   * @param states the processing states of the controller keyed by resource, which must not be
+   *        modified
+   */
+  default void monitorResourceStates(String controllerName, Map<?, ?> states) {}
 }
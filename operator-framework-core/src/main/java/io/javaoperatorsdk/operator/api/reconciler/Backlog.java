@@ -0,0 +1,42 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration.OverflowPolicy;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Backlog {
+
+  int UNBOUNDED = 0;
+
+  /**
+   * Maximal number of reconciliations waiting for a thread before new events are held back. Use
+   * {@link #UNBOUNDED} to always accept events.
+   *
+   * @return the maximal number of pending reconciliations
+   */
+  int maxPending();
+
+  /**
+   * @return what to do with events received while the backlog is full
+   */
+  OverflowPolicy overflowPolicy() default OverflowPolicy.BLOCK;
+
+  /**
+   * Maximal time a thread delivering an event is blocked when using {@link OverflowPolicy#BLOCK},
+   * after which the event is accepted anyway.
+   *
+   * @return the maximal blocking time
+   */
+  long maxBlockingTime() default 10;
+
+  /**
+   * @return time unit for the maximal blocking time
+   */
+  TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
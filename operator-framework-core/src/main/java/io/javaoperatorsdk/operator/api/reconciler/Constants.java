@@ -18,6 +18,7 @@ public final class Constants {
   public static final String WATCH_ALL_NAMESPACES = "JOSDK_ALL_NAMESPACES";
 
   public static final long NO_MAX_RECONCILIATION_INTERVAL = -1L;
+  public static final int NO_MAX_CONCURRENT_RECONCILIATIONS = -1;
   public static final String SAME_AS_CONTROLLER = "JOSDK_SAME_AS_CONTROLLER";
 
   public static final String RESOURCE_GVK_KEY = "josdk.resource.gvk";
@@ -99,6 +99,55 @@ public @interface ControllerConfiguration {
       interval = MaxReconciliationInterval.DEFAULT_INTERVAL);
 
 
+  /**
+   * Optional maximal number of reconciliations of this controller that can be executed
+   * concurrently. This is mostly useful when reconciliations are executed on virtual threads (see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#useVirtualThreads()}), in
+   * which case the number of concurrent reconciliations is otherwise unbounded. Use
+   * {@link Constants#NO_MAX_CONCURRENT_RECONCILIATIONS} to turn off this limit.
+   *
+   * @return the maximal number of concurrent reconciliations for this controller
+   */
+  int maxConcurrentReconciliations() default Constants.NO_MAX_CONCURRENT_RECONCILIATIONS;
+
+  /**
+   * Optional configuration of a thread pool dedicated to the reconciliations of this controller, so
+   * that a slow controller cannot starve the other ones. By default, the pool shared by all
+   * controllers is used.
+   *
+   * @return the dedicated thread pool configuration
+   */
+  ThreadPool threadPool() default @ThreadPool(threads = ThreadPool.USE_SHARED_POOL);
+
+  /**
+   * Optional ordering, from highest to lowest priority, in which reconciliations waiting for a
+   * thread are dispatched depending on what triggered them. Triggers which are not listed come
+   * last. Reconciliations with the same priority are dispatched in the order they were requested.
+   * By default, the declaration order of {@link ReconciliationTrigger} is used so that deletions,
+   * creations and spec changes go ahead of re-scheduled and retried reconciliations.
+   *
+   * @return the reconciliation triggers ordered by decreasing priority
+   */
+  ReconciliationTrigger[] reconciliationPriorities() default {};
+
+  /**
+   * Optional debouncing of the events of this controller, merging the events received in a short
+   * time for a given resource into a single reconciliation. By default, resources are reconciled as
+   * soon as an event is received.
+   *
+   * @return the debounce configuration
+   */
+  Debounce debounce() default @Debounce(window = Debounce.NO_DEBOUNCE);
+
+  /**
+   * Optional bound on the number of reconciliations of this controller waiting for a thread, past
+   * which new events are held back to apply backpressure on event sources. By default, events are
+   * always accepted.
+   *
+   * @return the backlog configuration
+   */
+  Backlog backlog() default @Backlog(maxPending = Backlog.UNBOUNDED);
+
   /**
    * Optional list of {@link Dependent} configurations which associate a resource type to a
    * {@link io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource} implementation
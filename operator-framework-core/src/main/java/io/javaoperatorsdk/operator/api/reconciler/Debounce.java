@@ -0,0 +1,42 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import io.javaoperatorsdk.operator.api.config.DebounceConfiguration;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Debounce {
+
+  long NO_DEBOUNCE = 0;
+  long DEFAULT_MAX_DELAY = 0;
+
+  /**
+   * How long to wait for more events after an event is received for an idle resource before
+   * reconciling it. Each event received during that time pushes the reconciliation back by this
+   * amount, so that bursts of events, e.g. the updates of a rolling deployment, result in a single
+   * reconciliation. Use {@link #NO_DEBOUNCE} to reconcile as soon as an event is received.
+   *
+   * @return the debounce window
+   */
+  long window();
+
+  /**
+   * Maximal time a reconciliation can be pushed back by events received during the debounce window,
+   * counted from the first of these events, so that a resource receiving a continuous flow of
+   * events still gets reconciled. Using {@link #DEFAULT_MAX_DELAY} caps it to
+   * {@link DebounceConfiguration#DEFAULT_MAX_DELAY_FACTOR} times the window.
+   *
+   * @return the maximal delay of a debounced reconciliation
+   */
+  long maxDelay() default DEFAULT_MAX_DELAY;
+
+  /**
+   * @return time unit for the debounce window and maximal delay
+   */
+  TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,44 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.util.List;
+
+/**
+ * Classifies what caused a reconciliation to be requested. Reconciliations waiting for a thread are
+ * dispatched according to the priority of their trigger, see
+ * {@link ControllerConfiguration#reconciliationPriorities()}. The constants are declared in their
+ * default priority order, from highest to lowest.
+ */
+public enum ReconciliationTrigger {
+  /**
+   * The primary resource is marked for deletion and needs to be cleaned up.
+   */
+  DELETION,
+  /**
+   * The primary resource was created, or seen for the first time.
+   */
+  CREATION,
+  /**
+   * The generation of the primary resource changed, i.e. its spec was updated.
+   */
+  SPEC_CHANGE,
+  /**
+   * The primary resource changed without its generation changing, e.g. its metadata or status.
+   */
+  RESOURCE_CHANGE,
+  /**
+   * An event source other than the one watching the primary resource, typically on a secondary
+   * resource, triggered the reconciliation.
+   */
+  SECONDARY_RESOURCE_CHANGE,
+  /**
+   * A reconciliation was re-scheduled, either as instructed by the reconciler or because the
+   * maximal reconciliation interval elapsed.
+   */
+  RESCHEDULE,
+  /**
+   * A previously failed reconciliation is retried.
+   */
+  RETRY;
+
+  public static final List<ReconciliationTrigger> DEFAULT_PRIORITIES = List.of(values());
+}
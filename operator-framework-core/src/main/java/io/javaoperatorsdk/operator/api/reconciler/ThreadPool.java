@@ -0,0 +1,37 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface ThreadPool {
+
+  int USE_SHARED_POOL = 0;
+
+  /**
+   * Number of threads of the pool dedicated to the reconciliations of the controller. Using
+   * {@link #USE_SHARED_POOL} makes the controller use the pool shared by all controllers.
+   *
+   * @return the number of threads of the dedicated pool
+   */
+  int threads();
+
+  /**
+   * Maximal number of reconciliations waiting for a thread of the dedicated pool, use
+   * {@link ThreadPoolConfiguration#UNBOUNDED_QUEUE} for an unbounded queue.
+   *
+   * @return the capacity of the queue of the dedicated pool
+   */
+  int queueCapacity() default ThreadPoolConfiguration.UNBOUNDED_QUEUE;
+
+  /**
+   * @return what to do with reconciliations submitted while the queue of the dedicated pool is full
+   */
+  RejectionPolicy rejectionPolicy() default RejectionPolicy.RESCHEDULE;
+}
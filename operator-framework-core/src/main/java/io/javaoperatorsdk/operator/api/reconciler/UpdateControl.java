@@ -1,7 +1,6 @@
 package io.javaoperatorsdk.operator.api.reconciler;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.kubernetes.client.CustomResource;
 
 public class UpdateControl<P extends HasMetadata> extends BaseControl<UpdateControl<P>> {
 
@@ -35,12 +34,10 @@ public class UpdateControl<P extends HasMetadata> extends BaseControl<UpdateCont
   }
 
   /**
-   * Preferred way to update the status. It does not do optimistic locking. Uses JSON Patch to patch
-   * the resource.
+   * Preferred way to update the status. It does not do optimistic locking. Sends a JSON merge patch
+   * holding only the identity of the resource and its status: the fields of the status are
+   * overwritten and the ones serialized as {@code null} are removed.
    * <p>
-   * Note that this does not work, if the {@link CustomResource#initStatus() initStatus} is
-   * implemented, since it breaks the diffing process. Don't implement it if using this method.
-   * </p>
    * There is also an issue with setting value to null with older Kubernetes versions (1.19 and
    * below). See: <a href=
    * "https://github.com/fabric8io/kubernetes-client/issues/4158">https://github.com/fabric8io/kubernetes-client/issues/4158</a>
@@ -1,8 +1,10 @@
 package io.javaoperatorsdk.operator.processing;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +40,7 @@ import io.javaoperatorsdk.operator.processing.dependent.workflow.ManagedWorkflow
 import io.javaoperatorsdk.operator.processing.dependent.workflow.WorkflowCleanupResult;
 import io.javaoperatorsdk.operator.processing.event.EventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT_NAMESPACE;
 
@@ -56,6 +59,7 @@ public class Controller<P extends HasMetadata>
   private final boolean isCleaner;
   private final Metrics metrics;
   private final ManagedWorkflow<P> managedWorkflow;
+  private final RateLimiter rateLimiter;
 
   private final GroupVersionKind associatedGVK;
 
@@ -74,6 +78,8 @@ public class Controller<P extends HasMetadata>
     isCleaner = reconciler instanceof Cleaner;
     managedWorkflow =
         ManagedWorkflow.workflowFor(kubernetesClient, configuration.getDependentResources());
+    // configurations might create a new rate limiter each time they are asked for one
+    rateLimiter = configuration.getRateLimiter();
     eventSourceManager = new EventSourceManager<>(this);
   }
 
@@ -250,6 +256,13 @@ public class Controller<P extends HasMetadata>
     return configuration;
   }
 
+  /**
+   * @return the rate limiter limiting the reconciliations of this controller
+   */
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
   public KubernetesClient getClient() {
     return kubernetesClient;
   }
@@ -267,6 +280,18 @@ public class Controller<P extends HasMetadata>
    * @throws OperatorException if a problem occurred during the registration process
    */
   public void start() throws OperatorException {
+    start(true);
+  }
+
+  /**
+   * Starts the event sources of this controller and, if requested, the processing of their events.
+   *
+   * @param startEventProcessing whether to reconcile resources once the event sources are started,
+   *        if {@code false} events are only processed once {@link #startEventProcessing()} is
+   *        called
+   * @throws OperatorException if the controller couldn't be started
+   */
+  public void start(boolean startEventProcessing) throws OperatorException {
     final Class<P> resClass = configuration.getResourceClass();
     final String controllerName = configuration.getName();
     final var crdName = configuration.getResourceTypeName();
@@ -283,7 +308,7 @@ public class Controller<P extends HasMetadata>
           eventSourceManager.getControllerResourceEventSource(), configuration, kubernetesClient);
 
       initAndRegisterEventSources(context);
-      eventSourceManager.start();
+      eventSourceManager.start(startEventProcessing);
       log.info("'{}' controller started, pending event sources initialization", controllerName);
     } catch (MissingCRDException e) {
       stop();
@@ -346,6 +371,38 @@ public class Controller<P extends HasMetadata>
     return eventSourceManager;
   }
 
+  public void startEventProcessing() {
+    log.info("Starting event processing for '{}' controller", configuration.getName());
+    eventSourceManager.startEventProcessor();
+  }
+
+  /**
+   * Restricts the primary resources reconciled by this controller to the specified ones, the
+   * resources this controller gained are reconciled right away.
+   *
+   * @param ownership the predicate matching the primary resources to reconcile
+   */
+  public void changeOwnership(Predicate<ResourceID> ownership) {
+    eventSourceManager.changeOwnership(ownership);
+  }
+
+  public void stopEventProcessing() {
+    log.info("Stopping event processing for '{}' controller", configuration.getName());
+    eventSourceManager.stopEventProcessor();
+  }
+
+  /**
+   * Stops processing events, then waits for the reconciliations in progress to finish, so that they
+   * don't conflict with another replica taking over.
+   *
+   * @param timeout the maximal time to wait for the reconciliations in progress
+   * @return {@code true} if no reconciliation is in progress anymore
+   */
+  public boolean stopEventProcessing(Duration timeout) {
+    log.info("Stopping event processing for '{}' controller", configuration.getName());
+    return eventSourceManager.stopEventProcessor(timeout);
+  }
+
   public void stop() {
     if (eventSourceManager != null) {
       eventSourceManager.stop();
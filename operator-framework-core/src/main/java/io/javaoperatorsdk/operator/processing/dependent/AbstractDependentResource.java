@@ -1,5 +1,7 @@
 package io.javaoperatorsdk.operator.processing.dependent;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,7 +31,7 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
 
   @Override
   public ReconcileResult<R> reconcile(P primary, Context<P> context) {
-    var maybeActual = getSecondaryResource(primary);
+    var maybeActual = getActualResource(primary);
     if (creatable || updatable) {
       if (maybeActual.isEmpty()) {
         if (creatable) {
@@ -62,6 +64,17 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
     return ReconcileResult.noOperation(maybeActual.orElse(null));
   }
 
+  /**
+   * Retrieves the actual state of the dependent resource to reconcile, using
+   * {@link #getSecondaryResource(Object)} by default.
+   *
+   * @param primary the primary resource being reconciled
+   * @return the actual dependent resource, if any
+   */
+  protected Optional<R> getActualResource(P primary) {
+    return getSecondaryResource(primary);
+  }
+
   private void throwIfNull(R desired, P primary, String descriptor) {
     if (desired == null) {
       throw new DependentResourceException(
@@ -3,12 +3,13 @@ package io.javaoperatorsdk.operator.processing.dependent.kubernetes;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Secret;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Matcher;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class GenericKubernetesResourceMatcher<R extends HasMetadata, P extends HasMetadata>
     implements Matcher<R, P> {
 
@@ -46,15 +47,9 @@ public class GenericKubernetesResourceMatcher<R extends HasMetadata, P extends H
 
     // reflection will be replaced by this:
     // https://github.com/fabric8io/kubernetes-client/issues/3816
-    var desiredSpecNode = objectMapper.valueToTree(ReconcilerUtils.getSpec(desired));
-    var actualSpecNode = objectMapper.valueToTree(ReconcilerUtils.getSpec(actualResource));
-    var diffJsonPatch = JsonDiff.asJson(desiredSpecNode, actualSpecNode);
-    for (int i = 0; i < diffJsonPatch.size(); i++) {
-      String operation = diffJsonPatch.get(i).get("op").asText();
-      if (!operation.equals("add")) {
-        return Result.computed(false, desired);
-      }
-    }
-    return Result.computed(true, desired);
+    JsonNode desiredSpecNode = objectMapper.valueToTree(ReconcilerUtils.getSpec(desired));
+    JsonNode actualSpecNode = objectMapper.valueToTree(ReconcilerUtils.getSpec(actualResource));
+    return Result.computed(
+        ResourceComparators.onlyAdditiveChanges(desiredSpecNode, actualSpecNode), desired);
   }
 }
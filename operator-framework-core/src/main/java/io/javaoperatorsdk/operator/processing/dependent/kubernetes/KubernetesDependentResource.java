@@ -138,7 +138,7 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
   }
 
   public void delete(P primary, Context<P> context) {
-    var resource = getSecondaryResource(primary);
+    var resource = eventSource().getSecondaryResourceUnsafe(primary);
     resource.ifPresent(r -> client.resource(r).delete());
   }
 
@@ -213,6 +213,26 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
     return eventSource().getSecondaryResource(primaryResource);
   }
 
+  @Override
+  protected Optional<R> getActualResource(P primary) {
+    return readActualResourceWithoutCopy() ? eventSource().getSecondaryResourceUnsafe(primary)
+        : getSecondaryResource(primary);
+  }
+
+  /**
+   * Whether the actual resource is read directly from the informer cache, without copying it, when
+   * reconciling this dependent resource. The default matcher and update pre-processor never modify
+   * the actual resource, the latter working on a copy, so this can safely be enabled unless a
+   * custom {@link Matcher}, {@link ResourceUpdatePreProcessor} or overridden update logic modifies
+   * it.
+   *
+   * @return {@code true} to avoid copying the actual resource on each reconciliation, {@code false}
+   *         otherwise (default)
+   */
+  protected boolean readActualResourceWithoutCopy() {
+    return false;
+  }
+
   @Override
   public void setKubernetesClient(KubernetesClient kubernetesClient) {
     this.client = kubernetesClient;
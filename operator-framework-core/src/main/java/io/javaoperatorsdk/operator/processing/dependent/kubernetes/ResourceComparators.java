@@ -5,6 +5,8 @@ import java.util.Objects;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.Secret;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class ResourceComparators {
 
   public static boolean compareConfigMapData(ConfigMap c1, ConfigMap c2) {
@@ -17,4 +19,54 @@ public class ResourceComparators {
         Objects.equals(s1.getData(), s2.getData()) &&
         Objects.equals(s1.getStringData(), s2.getStringData());
   }
+
+  /**
+   * Checks whether the actual JSON tree only differs from the desired one by additions, i.e.
+   * whether every value of the desired tree is also present in the actual one. Fields only present
+   * in actual objects are ignored, as are additional elements of actual arrays as long as the
+   * desired elements appear in the same order. The trees are walked without building any
+   * intermediate structure and the comparison stops at the first non-additive difference.
+   *
+   * @param desired the desired JSON tree
+   * @param actual the actual JSON tree
+   * @return {@code true} if the actual tree only adds values to the desired one, {@code false}
+   *         otherwise
+   */
+  public static boolean onlyAdditiveChanges(JsonNode desired, JsonNode actual) {
+    if (desired.isObject()) {
+      if (!actual.isObject()) {
+        return false;
+      }
+      final var fields = desired.fields();
+      while (fields.hasNext()) {
+        final var field = fields.next();
+        final var actualValue = actual.get(field.getKey());
+        if (actualValue == null || !onlyAdditiveChanges(field.getValue(), actualValue)) {
+          return false;
+        }
+      }
+      return true;
+    } else if (desired.isArray()) {
+      if (!actual.isArray()) {
+        return false;
+      }
+      // desired elements need to match actual elements in order, additional actual elements being
+      // skipped, which boils down to a positional comparison if both arrays have the same size
+      int actualIndex = 0;
+      for (int i = 0; i < desired.size(); i++) {
+        final var desiredElement = desired.get(i);
+        while (actual.size() - actualIndex >= desired.size() - i
+            && !onlyAdditiveChanges(desiredElement, actual.get(actualIndex))) {
+          actualIndex++;
+        }
+        if (actual.size() - actualIndex < desired.size() - i) {
+          return false;
+        }
+        actualIndex++;
+      }
+      return true;
+    } else {
+      return desired.equals(actual);
+    }
+  }
 }
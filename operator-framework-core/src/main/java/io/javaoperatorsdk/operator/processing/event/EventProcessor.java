@@ -2,21 +2,31 @@ package io.javaoperatorsdk.operator.processing.event;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration;
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration.OverflowPolicy;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.DebounceConfiguration;
 import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.MDCUtils;
@@ -25,6 +35,7 @@ import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitSt
 import io.javaoperatorsdk.operator.processing.event.source.Cache;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEvent;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
@@ -35,11 +46,14 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
 
   private static final Logger log = LoggerFactory.getLogger(EventProcessor.class);
   private static final long MINIMAL_RATE_LIMIT_RESCHEDULE_DURATION = 50;
+  private static final long REJECTED_EXECUTION_RESCHEDULE_DURATION = 1000;
+  // period of the sweep evicting the states kept only because their rate limit was still relevant
+  private static final Duration IDLE_STATES_EVICTION_PERIOD = Duration.ofSeconds(30);
 
   private volatile boolean running;
   private final ReconciliationDispatcher<R> reconciliationDispatcher;
   private final Retry retry;
-  private final ExecutorService executor;
+  private final ReconciliationQueue reconciliationQueue;
   private final String controllerName;
   private final Metrics metrics;
   private final Cache<R> cache;
@@ -47,17 +61,35 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
   private final RateLimiter<? extends RateLimitState> rateLimiter;
   private final ResourceStateManager resourceStateManager = new ResourceStateManager();
   private final Map<String, Object> metricsMetadata;
+  // null if events are not debounced
+  private final DebounceConfiguration debounce;
+  // null if events are always accepted
+  private final BacklogConfiguration backlog;
+  // primary resources this replica reconciles, all of them unless sharding is enabled
+  private volatile Predicate<ResourceID> ownership = resourceID -> true;
+  // reconciliations handed to the dispatcher which didn't finish yet, guarded by the lock
+  private final Object reconciliationsInProgressLock = new Object();
+  private int reconciliationsInProgress;
+  private ScheduledFuture<?> idleStatesEviction;
 
   EventProcessor(EventSourceManager<R> eventSourceManager) {
+    this(eventSourceManager, eventSourceManager.getController().getConfiguration(),
+        ConfigurationServiceProvider.instance().getMetrics());
+  }
+
+  private EventProcessor(EventSourceManager<R> eventSourceManager,
+      ControllerConfiguration<R> configuration, Metrics metrics) {
     this(
         eventSourceManager.getControllerResourceEventSource(),
-        ExecutorServiceManager.instance().executorService(),
-        eventSourceManager.getController().getConfiguration().getName(),
+        configuration.getName(),
+        reconciliationQueue(configuration, metrics),
         new ReconciliationDispatcher<>(eventSourceManager.getController()),
-        eventSourceManager.getController().getConfiguration().getRetry(),
-        ConfigurationServiceProvider.instance().getMetrics(),
-        eventSourceManager.getController().getConfiguration().getRateLimiter(),
-        eventSourceManager);
+        configuration.getRetry(),
+        metrics,
+        eventSourceManager.getController().getRateLimiter(),
+        eventSourceManager,
+        configuration.getDebounceConfiguration().orElse(null),
+        configuration.getBacklogConfiguration().orElse(null));
   }
 
   @SuppressWarnings("rawtypes")
@@ -68,33 +100,67 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
       Retry retry,
       RateLimiter rateLimiter,
       Metrics metrics) {
+    this(reconciliationDispatcher, eventSourceManager, relatedControllerName, retry, rateLimiter,
+        metrics, Constants.NO_MAX_CONCURRENT_RECONCILIATIONS);
+  }
+
+  @SuppressWarnings("rawtypes")
+  EventProcessor(
+      ReconciliationDispatcher<R> reconciliationDispatcher,
+      EventSourceManager<R> eventSourceManager,
+      String relatedControllerName,
+      Retry retry,
+      RateLimiter rateLimiter,
+      Metrics metrics,
+      int maxConcurrentReconciliations) {
+    this(reconciliationDispatcher, eventSourceManager, relatedControllerName, retry, rateLimiter,
+        metrics, maxConcurrentReconciliations, null, null);
+  }
+
+  @SuppressWarnings("rawtypes")
+  EventProcessor(
+      ReconciliationDispatcher<R> reconciliationDispatcher,
+      EventSourceManager<R> eventSourceManager,
+      String relatedControllerName,
+      Retry retry,
+      RateLimiter rateLimiter,
+      Metrics metrics,
+      int maxConcurrentReconciliations,
+      DebounceConfiguration debounce,
+      BacklogConfiguration backlog) {
     this(
         eventSourceManager.getControllerResourceEventSource(),
-        null,
         relatedControllerName,
+        new ReconciliationQueue(relatedControllerName, relatedControllerName,
+            new ScheduledThreadPoolExecutor(
+                ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER),
+            maxWorkers(ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER,
+                maxConcurrentReconciliations),
+            ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE,
+            ReconciliationTrigger.DEFAULT_PRIORITIES, metrics != null ? metrics : Metrics.NOOP),
         reconciliationDispatcher,
         retry,
         metrics,
         rateLimiter,
-        eventSourceManager);
+        eventSourceManager,
+        debounce,
+        backlog);
   }
 
   @SuppressWarnings({"rawtypes", "unchecked"})
   private EventProcessor(
       Cache<R> cache,
-      ExecutorService executor,
       String relatedControllerName,
+      ReconciliationQueue reconciliationQueue,
       ReconciliationDispatcher<R> reconciliationDispatcher,
       Retry retry,
       Metrics metrics,
       RateLimiter rateLimiter,
-      EventSourceManager<R> eventSourceManager) {
+      EventSourceManager<R> eventSourceManager,
+      DebounceConfiguration debounce,
+      BacklogConfiguration backlog) {
     this.running = false;
-    this.executor =
-        executor == null
-            ? new ScheduledThreadPoolExecutor(
-                ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER)
-            : executor;
+    this.reconciliationQueue = reconciliationQueue;
     this.controllerName = relatedControllerName;
     this.reconciliationDispatcher = reconciliationDispatcher;
     this.retry = retry;
@@ -102,6 +168,9 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
     this.metrics = metrics != null ? metrics : Metrics.NOOP;
     this.eventSourceManager = eventSourceManager;
     this.rateLimiter = rateLimiter;
+    this.debounce = debounce;
+    this.backlog = backlog;
+    this.metrics.monitorResourceStates(controllerName, resourceStateManager.states());
 
     metricsMetadata = Optional.ofNullable(eventSourceManager.getController())
         .map(Controller::getAssociatedGroupVersionKind)
@@ -109,39 +178,170 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
         .orElse(Collections.emptyMap());
   }
 
+  private static ReconciliationQueue reconciliationQueue(ControllerConfiguration<?> configuration,
+      Metrics metrics) {
+    final var poolConfiguration = configuration.getThreadPoolConfiguration();
+    final int threads = poolConfiguration.map(ThreadPoolConfiguration::getThreads)
+        .orElseGet(() -> ExecutorServiceManager.instance().executorServiceThreads());
+    return new ReconciliationQueue(
+        configuration.getName(),
+        ExecutorServiceManager.executorServiceNameFor(configuration),
+        ExecutorServiceManager.instance().executorServiceFor(configuration),
+        maxWorkers(threads, configuration.maxConcurrentReconciliations()),
+        poolConfiguration.map(ThreadPoolConfiguration::getQueueCapacity)
+            .orElse(ThreadPoolConfiguration.UNBOUNDED_QUEUE),
+        poolConfiguration.map(ThreadPoolConfiguration::getRejectionPolicy)
+            .orElse(RejectionPolicy.RESCHEDULE),
+        configuration.getReconciliationPriorities(),
+        metrics != null ? metrics : Metrics.NOOP);
+  }
+
+  // no more reconciliations than threads can run at the same time, so handing more workers to the
+  // executor would only let them wait there, out of priority order. Executors whose size can't be
+  // told, e.g. virtual threads or user-supplied ones, are not capped.
+  private static int maxWorkers(int threads, int maxConcurrentReconciliations) {
+    return maxConcurrentReconciliations > 0 ? Math.min(threads, maxConcurrentReconciliations)
+        : threads;
+  }
+
   @Override
-  public synchronized void handleEvent(Event event) {
-    try {
-      log.debug("Received event: {}", event);
+  public void handleEvent(Event event) {
+    if (admit(event)) {
+      handleAdmittedEvent(event);
+    }
+  }
+
+  private void handleAdmittedEvent(Event event) {
+    final var resourceID = event.getRelatedCustomResourceID();
+    // events for the same resource are serialized, events for different resources are not
+    synchronized (resourceStateManager.lockFor(resourceID)) {
+      try {
+        log.debug("Received event: {}", event);
+
+        final var state = resourceStateManager.getOrCreate(resourceID);
+        MDCUtils.addResourceIDInfo(resourceID);
+        metrics.receivedEvent(event, metricsMetadata);
+        handleEventMarking(event, state);
+        if (!this.running) {
+          // events are received and marked, but will be processed when started, see start()
+          // method.
+          log.debug("Skipping event: {} because the event processor is not started", event);
+          return;
+        }
+        handleMarkedEventForResource(state);
+      } finally {
+        MDCUtils.removeResourceIDInfo();
+      }
+    }
+    ReconciliationQueue.runDeferredWork();
+  }
 
+  /**
+   * Applies backpressure to event sources if the backlog of reconciliations waiting for a thread is
+   * full, either by blocking the calling thread until the backlog drains or by dropping the event
+   * and re-scheduling the reconciliation of the associated resource. Deletions are always accepted
+   * since they free resources.
+   */
+  private boolean admit(Event event) {
+    if (backlog == null || !running || isDeleteEvent(event)
+        || !reconciliationQueue.isFull(backlog.getMaxPending())) {
+      return true;
+    }
+    if (backlog.getOverflowPolicy() == OverflowPolicy.SHED) {
       final var resourceID = event.getRelatedCustomResourceID();
-      final var state = resourceStateManager.getOrCreate(event.getRelatedCustomResourceID());
-      MDCUtils.addResourceIDInfo(resourceID);
-      metrics.receivedEvent(event, metricsMetadata);
-      handleEventMarking(event, state);
-      if (!this.running) {
-        // events are received and marked, but will be processed when started, see start() method.
-        log.debug("Skipping event: {} because the event processor is not started", event);
-        return;
+      log.debug("Backlog full, dropping event: {}, rescheduled in at least {} millis", event,
+          REJECTED_EXECUTION_RESCHEDULE_DURATION);
+      metrics.eventShed(controllerName, event);
+      // a pending retry or re-schedule also covers the dropped event, and must not be brought
+      // forward
+      retryEventSource().scheduleOnceNotBefore(resourceID, REJECTED_EXECUTION_RESCHEDULE_DURATION);
+      return false;
+    }
+    // blocking the timer or a thread running reconciliations would prevent the backlog to drain
+    if (!(event instanceof TimerEvent) && !ReconciliationQueue.isWorkerThread()) {
+      try {
+        if (!reconciliationQueue.awaitNotFull(backlog.getMaxPending(),
+            backlog.getMaxBlockingTime())) {
+          log.debug("Backlog still full after {}, accepting event: {}",
+              backlog.getMaxBlockingTime(), event);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       }
-      handleMarkedEventForResource(state);
-    } finally {
-      MDCUtils.removeResourceIDInfo();
     }
+    return true;
+  }
+
+  private boolean isDeleteEvent(Event event) {
+    return event instanceof ResourceEvent
+        && ((ResourceEvent) event).getAction() == ResourceAction.DELETED;
   }
 
   private void handleMarkedEventForResource(ResourceState state) {
     if (state.deleteEventPresent()) {
       cleanupForDeletedEvent(state.getId());
+    } else if (!ownership.test(state.getId())) {
+      skipNotOwned(state);
     } else if (!state.processedMarkForDeletionPresent()) {
+      submitOrDebounceReconciliationExecution(state);
+    }
+  }
+
+  /**
+   * Drops the event received for a resource owned by another replica, along with the state of the
+   * resource unless it's still being reconciled, since the reconciliation of the resources this
+   * replica gets to own is triggered anyway when the ownership changes.
+   */
+  private void skipNotOwned(ResourceState state) {
+    log.debug("Skipping event for resource: {} owned by another replica", state.getId());
+    if (state.isUnderProcessing()) {
+      state.unMarkEventReceived();
+      state.setTrigger(null);
+    } else {
+      retryEventSource().cancelOnceSchedule(state.getId());
+      resourceStateManager.remove(state.getId());
+    }
+  }
+
+  /**
+   * Submits the reconciliation of the resource associated with the specified state unless events
+   * are debounced, in which case the submission is delayed by the debounce window, or until the
+   * maximal debounce delay elapsed since the first debounced event, whichever comes first. Events
+   * received meanwhile push the submission back, which happens once the timer event scheduled for
+   * the resource is received past the due time.
+   */
+  private void submitOrDebounceReconciliationExecution(ResourceState state) {
+    if (debounce == null || isControllerUnderExecution(state)) {
+      submitReconciliationExecution(state);
+      return;
+    }
+    final var now = System.nanoTime();
+    if (!state.isDebouncing()) {
+      state.startDebouncing(now);
+    } else if (now - state.getDebounceUntil() >= 0) {
+      submitReconciliationExecution(state);
+      return;
+    }
+    final var remaining = Math.min(debounce.getWindow().toNanos(),
+        state.getDebounceStart() + debounce.getMaxDelay().toNanos() - now);
+    if (remaining <= 0) {
       submitReconciliationExecution(state);
+      return;
     }
+    state.setDebounceUntil(now + remaining);
+    // round up so that the timer event is never received before the due time
+    final var delay = TimeUnit.NANOSECONDS.toMillis(remaining - 1) + 1;
+    log.debug("Debouncing event for resource: {}, reconciliation delayed by {} millis",
+        state.getId(), delay);
+    retryEventSource().scheduleOnce(state.getId(), delay);
   }
 
   private void submitReconciliationExecution(ResourceState state) {
     try {
       boolean controllerUnderExecution = isControllerUnderExecution(state);
-      Optional<R> maybeLatest = cache.get(state.getId());
+      // the resource is copied by the ReconciliationDispatcher before being handed to the
+      // reconciler, so there is no need to get a copy from the cache
+      Optional<R> maybeLatest = cache.getUnsafe(state.getId());
       maybeLatest.ifPresent(MDCUtils::addResourceInfo);
       if (!controllerUnderExecution && maybeLatest.isPresent()) {
         var rateLimit = state.getRateLimit();
@@ -155,12 +355,20 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
           return;
         }
         state.setUnderProcessing(true);
+        state.stopDebouncing();
         final var latest = maybeLatest.get();
         ExecutionScope<R> executionScope = new ExecutionScope<>(latest, state.getRetry());
         state.unMarkEventReceived();
+        final var trigger = state.getTrigger() != null ? state.getTrigger()
+            : ReconciliationTrigger.RESOURCE_CHANGE;
+        state.setTrigger(null);
         metrics.reconcileCustomResource(state.getId(), state.getRetry(), metricsMetadata);
-        log.debug("Executing events for custom resource. Scope: {}", executionScope);
-        executor.execute(new ControllerExecution(executionScope));
+        log.debug("Executing events for custom resource. Scope: {}, trigger: {}", executionScope,
+            trigger);
+        if (!reconciliationQueue.submit(trigger,
+            new ControllerExecution(executionScope, trigger))) {
+          handleRejectedSubmission(state, trigger);
+        }
       } else {
         log.debug(
             "Skipping executing controller for resource id: {}. Controller in execution: {}. Latest Resource present: {}",
@@ -196,10 +404,17 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
         // removed, but also the informers websocket is disconnected and later reconnected. So
         // meanwhile the resource could be deleted and recreated. In this case we just mark a new
         // event as below.
-        markEventReceived(state);
+        markEventReceived(state, triggerOf(resourceEvent));
       }
     } else if (!state.deleteEventPresent() || !state.processedMarkForDeletionPresent()) {
-      markEventReceived(state);
+      final ReconciliationTrigger trigger;
+      if (event instanceof TimerEvent) {
+        trigger = state.getRetry() != null ? ReconciliationTrigger.RETRY
+            : ReconciliationTrigger.RESCHEDULE;
+      } else {
+        trigger = ReconciliationTrigger.SECONDARY_RESOURCE_CHANGE;
+      }
+      markEventReceived(state, trigger);
     } else if (log.isDebugEnabled()) {
       log.debug(
           "Skipped marking event as received. Delete event present: {}, processed mark for deletion: {}",
@@ -208,9 +423,24 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
     }
   }
 
-  private void markEventReceived(ResourceState state) {
-    log.debug("Marking event received for: {}", state.getId());
+  private void markEventReceived(ResourceState state, ReconciliationTrigger trigger) {
+    log.debug("Marking event received for: {}, trigger: {}", state.getId(), trigger);
     state.markEventReceived();
+    final var current = state.getTrigger();
+    if (current == null || reconciliationQueue.hasPriorityOver(trigger, current)) {
+      state.setTrigger(trigger);
+    }
+  }
+
+  private ReconciliationTrigger triggerOf(ResourceEvent resourceEvent) {
+    if (isResourceMarkedForDeletion(resourceEvent)) {
+      return ReconciliationTrigger.DELETION;
+    }
+    if (resourceEvent.getAction() == ResourceAction.ADDED) {
+      return ReconciliationTrigger.CREATION;
+    }
+    return resourceEvent.isGenerationChanged() ? ReconciliationTrigger.SPEC_CHANGE
+        : ReconciliationTrigger.RESOURCE_CHANGE;
   }
 
   private boolean isResourceMarkedForDeletion(ResourceEvent resourceEvent) {
@@ -225,18 +455,38 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
         Math.max(minimalDurationMillis, MINIMAL_RATE_LIMIT_RESCHEDULE_DURATION));
   }
 
-  synchronized void eventProcessingFinished(
-      ExecutionScope<R> executionScope, PostExecutionControl<R> postExecutionControl) {
-    if (!running) {
-      return;
+  private void handleRejectedSubmission(ResourceState state, ReconciliationTrigger trigger) {
+    // the queue is full: keep the event and try again later
+    state.setUnderProcessing(false);
+    markEventReceived(state, trigger);
+    if (running) {
+      log.debug("Executor rejected resource: {}, rescheduled in {} millis", state.getId(),
+          REJECTED_EXECUTION_RESCHEDULE_DURATION);
+      retryEventSource().scheduleOnce(state.getId(), REJECTED_EXECUTION_RESCHEDULE_DURATION);
     }
+  }
+
+  void eventProcessingFinished(
+      ExecutionScope<R> executionScope, PostExecutionControl<R> postExecutionControl) {
     ResourceID resourceID = executionScope.getResourceID();
+    synchronized (resourceStateManager.lockFor(resourceID)) {
+      handleProcessingFinished(executionScope, postExecutionControl, resourceID);
+    }
+    ReconciliationQueue.runDeferredWork();
+  }
+
+  private void handleProcessingFinished(ExecutionScope<R> executionScope,
+      PostExecutionControl<R> postExecutionControl, ResourceID resourceID) {
     final var state = resourceStateManager.getOrCreate(resourceID);
     log.debug(
         "Event processing finished. Scope: {}, PostExecutionControl: {}",
         executionScope,
         postExecutionControl);
     unsetUnderExecution(resourceID);
+    if (!running) {
+      handleProcessingFinishedWhileStopped(executionScope, postExecutionControl, state);
+      return;
+    }
 
     // If a delete event present at this phase, it was received during reconciliation.
     // So we either removed the finalizer during reconciliation or we don't use finalizers.
@@ -255,24 +505,106 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
     } else if (postExecutionControl.isFinalizerRemoved()) {
       state.markProcessedMarkForDeletion();
     } else {
-      postExecutionControl
-          .getUpdatedCustomResource()
-          .ifPresent(
-              r -> {
-                if (!postExecutionControl.updateIsStatusPatch()) {
-                  eventSourceManager
-                      .getControllerResourceEventSource()
-                      .handleRecentResourceUpdate(
-                          ResourceID.fromResource(r), r, executionScope.getResource());
-                }
-              });
-      if (state.eventPresent()) {
-        submitReconciliationExecution(state);
+      handleRecentUpdate(executionScope, postExecutionControl);
+      if (state.eventPresent() && !ownership.test(resourceID)) {
+        skipNotOwned(state);
+      } else if (state.eventPresent()) {
+        submitOrDebounceReconciliationExecution(state);
+      } else {
+        reScheduleExecutionIfInstructed(postExecutionControl, executionScope.getResource());
+        evictIfIdle(state);
+      }
+    }
+  }
+
+  /**
+   * Cleans up after a reconciliation which finished once the processor was stopped, e.g. because
+   * the leadership was lost meanwhile. Nothing is submitted, but failed reconciliations are marked
+   * so that, as resources which received events meanwhile, they are reconciled again once the
+   * processor is started.
+   */
+  private void handleProcessingFinishedWhileStopped(ExecutionScope<R> executionScope,
+      PostExecutionControl<R> postExecutionControl, ResourceState state) {
+    if (state.deleteEventPresent()) {
+      cleanupForDeletedEvent(state.getId());
+    } else if (postExecutionControl.exceptionDuringExecution()) {
+      log.debug("Reconciliation of resource: {} failed while stopped, marking it for a retry",
+          state.getId());
+      markEventReceived(state, ReconciliationTrigger.RETRY);
+    } else {
+      cleanupOnSuccessfulExecution(executionScope);
+      metrics.finishedReconciliation(state.getId(), metricsMetadata);
+      if (postExecutionControl.isFinalizerRemoved()) {
+        state.markProcessedMarkForDeletion();
       } else {
+        handleRecentUpdate(executionScope, postExecutionControl);
         reScheduleExecutionIfInstructed(postExecutionControl, executionScope.getResource());
       }
     }
+  }
+
+  /**
+   * Handles a reconciliation which was submitted before the processor was stopped but didn't start
+   * yet: it is not run, but the event it was submitted for is kept so that the resource is
+   * reconciled once the processor is started.
+   */
+  private void handleSkippedExecution(ExecutionScope<R> executionScope,
+      ReconciliationTrigger trigger) {
+    final var resourceID = executionScope.getResourceID();
+    synchronized (resourceStateManager.lockFor(resourceID)) {
+      log.debug("Skipping reconciliation of resource: {} since the event processor is stopped",
+          resourceID);
+      final var state = resourceStateManager.getOrCreate(resourceID);
+      unsetUnderExecution(resourceID);
+      if (state.deleteEventPresent()) {
+        cleanupForDeletedEvent(resourceID);
+        return;
+      }
+      markEventReceived(state, trigger);
+      if (running) {
+        // the processor was started again meanwhile, but skipped the resource under processing
+        handleMarkedEventForResource(state);
+      }
+    }
+    ReconciliationQueue.runDeferredWork();
+  }
+
+  private void handleRecentUpdate(ExecutionScope<R> executionScope,
+      PostExecutionControl<R> postExecutionControl) {
+    // the events caused by status patches are filtered by the event source around the patch
+    if (postExecutionControl.updateIsStatusPatch()) {
+      return;
+    }
+    postExecutionControl
+        .getUpdatedCustomResource()
+        .ifPresent(
+            r -> eventSourceManager
+                .getControllerResourceEventSource()
+                .handleRecentResourceUpdate(
+                    ResourceID.fromResource(r), r, executionScope.getResource()));
+  }
 
+  /**
+   * Drops the state of the specified resource if nothing is going on for it so that states are not
+   * kept for every resource that ever received an event.
+   */
+  private void evictIfIdle(ResourceState state) {
+    if (state.isIdle()
+        && (state.getRateLimit() == null || rateLimiter.canDiscard(state.getRateLimit()))) {
+      resourceStateManager.remove(state.getId());
+    }
+  }
+
+  /**
+   * Evicts the states of idle resources which could not be evicted when their last reconciliation
+   * finished, typically because their rate limit was still relevant then.
+   */
+  void evictIdleStates() {
+    for (var resourceID : List.copyOf(resourceStateManager.states().keySet())) {
+      synchronized (resourceStateManager.lockFor(resourceID)) {
+        resourceStateManager.get(resourceID).ifPresent(this::evictIfIdle);
+      }
+    }
   }
 
   private void reScheduleExecutionIfInstructed(
@@ -319,7 +651,13 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
           metrics.failedReconciliation(resourceID, exception, metricsMetadata);
           retryEventSource().scheduleOnce(resourceID, delay);
         },
-        () -> log.error("Exhausted retries for {}", executionScope));
+        () -> {
+          log.error("Exhausted retries for {}", executionScope);
+          // only new events trigger a reconciliation now, starting a new series of retries
+          state.setRetry(null);
+          state.unMarkEventReceived();
+          evictIfIdle(state);
+        });
   }
 
   private void cleanupOnSuccessfulExecution(ExecutionScope<R> executionScope) {
@@ -362,29 +700,116 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
   @Override
   public synchronized void stop() {
     this.running = false;
+    if (idleStatesEviction != null) {
+      idleStatesEviction.cancel(false);
+      idleStatesEviction = null;
+    }
+  }
+
+  /**
+   * Waits for the reconciliations in progress to finish, as stopping the processor only prevents
+   * new ones from starting.
+   *
+   * @param timeout the maximal time to wait
+   * @return {@code true} if no reconciliation is in progress anymore, {@code false} if the timeout
+   *         elapsed before
+   * @throws InterruptedException if interrupted while waiting
+   */
+  boolean awaitReconciliationsInProgress(Duration timeout) throws InterruptedException {
+    final var deadline = System.nanoTime() + timeout.toNanos();
+    synchronized (reconciliationsInProgressLock) {
+      while (reconciliationsInProgress > 0) {
+        final var remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(reconciliationsInProgressLock, remaining);
+      }
+      return true;
+    }
+  }
+
+  private boolean reconciliationStarting() {
+    synchronized (reconciliationsInProgressLock) {
+      // checked under the lock so that reconciliations either start before the processor is
+      // stopped, and are awaited, or don't start at all
+      if (!running) {
+        return false;
+      }
+      reconciliationsInProgress++;
+      return true;
+    }
+  }
+
+  private void reconciliationFinished() {
+    synchronized (reconciliationsInProgressLock) {
+      reconciliationsInProgress--;
+      reconciliationsInProgressLock.notifyAll();
+    }
   }
 
   @Override
   public void start() throws OperatorException {
-    this.running = true;
+    synchronized (this) {
+      this.running = true;
+      if (idleStatesEviction == null) {
+        idleStatesEviction = IdleStatesEvictionScheduler.INSTANCE
+            .scheduleWithFixedDelay(this::evictIdleStates,
+                IDLE_STATES_EVICTION_PERIOD.toMillis(), IDLE_STATES_EVICTION_PERIOD.toMillis(),
+                TimeUnit.MILLISECONDS);
+      }
+    }
     handleAlreadyMarkedEvents();
   }
 
+  /**
+   * Restricts the primary resources reconciled by this processor to the specified ones. Resources
+   * which were not owned until now are reconciled right away since their previous owner might not
+   * have processed their latest changes. Their events bypass the backlog admission, so that the
+   * calling thread is never blocked.
+   *
+   * @param ownership the predicate matching the primary resources to reconcile
+   */
+  public void changeOwnership(Predicate<ResourceID> ownership) {
+    final var previous = this.ownership;
+    this.ownership = ownership;
+    if (!running) {
+      // events already received are processed once started
+      return;
+    }
+    cache.keys()
+        .filter(resourceID -> ownership.test(resourceID) && !previous.test(resourceID))
+        .forEach(resourceID -> handleAdmittedEvent(new Event(resourceID)));
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
   private void handleAlreadyMarkedEvents() {
     for (var state : resourceStateManager.resourcesWithEventPresent()) {
-      handleMarkedEventForResource(state);
+      synchronized (resourceStateManager.lockFor(state.getId())) {
+        handleMarkedEventForResource(state);
+      }
+      ReconciliationQueue.runDeferredWork();
     }
   }
 
   private class ControllerExecution implements Runnable {
     private final ExecutionScope<R> executionScope;
+    private final ReconciliationTrigger trigger;
 
-    private ControllerExecution(ExecutionScope<R> executionScope) {
+    private ControllerExecution(ExecutionScope<R> executionScope, ReconciliationTrigger trigger) {
       this.executionScope = executionScope;
+      this.trigger = trigger;
     }
 
     @Override
     public void run() {
+      if (!reconciliationStarting()) {
+        handleSkippedExecution(executionScope, trigger);
+        return;
+      }
       // change thread name for easier debugging
       final var thread = Thread.currentThread();
       final var name = thread.getName();
@@ -395,6 +820,7 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
             reconciliationDispatcher.handleExecution(executionScope);
         eventProcessingFinished(executionScope, postExecutionControl);
       } finally {
+        reconciliationFinished();
         // restore original name
         thread.setName(name);
         MDCUtils.removeResourceInfo();
@@ -407,7 +833,28 @@ class EventProcessor<R extends HasMetadata> implements EventHandler, LifecycleAw
     }
   }
 
-  public synchronized boolean isUnderProcessing(ResourceID resourceID) {
-    return isControllerUnderExecution(resourceStateManager.getOrCreate(resourceID));
+  public boolean isUnderProcessing(ResourceID resourceID) {
+    synchronized (resourceStateManager.lockFor(resourceID)) {
+      return resourceStateManager.get(resourceID).map(this::isControllerUnderExecution)
+          .orElse(false);
+    }
+  }
+
+  /**
+   * Single daemon thread sweeping the idle states of all processors, kept apart from the polling
+   * threads so that sweeps neither delay polls nor are delayed by them.
+   */
+  private static class IdleStatesEvictionScheduler {
+    private static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+    private static ScheduledThreadPoolExecutor create() {
+      final var scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final var thread = new Thread(runnable, "idle-states-eviction");
+        thread.setDaemon(true);
+        return thread;
+      });
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
   }
 }
@@ -1,9 +1,11 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -21,6 +23,8 @@ import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ControllerResourceEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAction;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerRegistry;
+import io.javaoperatorsdk.operator.processing.event.source.informer.ManagedInformerEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
 
 public class EventSourceManager<R extends HasMetadata> implements LifecycleAware {
@@ -30,6 +34,7 @@ public class EventSourceManager<R extends HasMetadata> implements LifecycleAware
   private final EventSources<R> eventSources;
   private final EventProcessor<R> eventProcessor;
   private final Controller<R> controller;
+  private InformerRegistry informerRegistry;
 
   public EventSourceManager(Controller<R> controller) {
     this(controller, new EventSources<>());
@@ -50,23 +55,74 @@ public class EventSourceManager<R extends HasMetadata> implements LifecycleAware
     eventSources.retryEventSource().setEventHandler(eventProcessor);
   }
 
+  @Override
+  public synchronized void start() {
+    start(true);
+  }
+
+  /**
+   * Sets the registry through which the informer event sources share their informers with the other
+   * controllers of the operator.
+   *
+   * @param informerRegistry the registry of the operator, {@code null} if informers are not shared
+   */
+  public void setInformerRegistry(InformerRegistry informerRegistry) {
+    this.informerRegistry = informerRegistry;
+  }
+
   /**
-   * Starts the event sources first and then the processor. Note that it's not desired to start
-   * processing events while the event sources are not "synced". This not fully started and the
-   * caches propagated - although for non k8s related event sources this behavior might be different
-   * (see
+   * Starts the event sources first and then, if requested, the processor. Note that it's not
+   * desired to start processing events while the event sources are not "synced". This not fully
+   * started and the caches propagated - although for non k8s related event sources this behavior
+   * might be different (see
    * {@link io.javaoperatorsdk.operator.processing.event.source.polling.PerResourcePollingEventSource}).
    * <p>
    * Now the event sources are also started sequentially, mainly because others might depend on
    * {@link ControllerResourceEventSource} , which is started first.
+   * <p>
+   * If the processor is not started, events are recorded but only processed once
+   * {@link #startEventProcessor()} is called, which allows standby replicas to keep their caches in
+   * sync without reconciling resources.
+   *
+   * @param startEventProcessor whether to start processing events once the event sources are
+   *        started
    */
-  @Override
-  public synchronized void start() {
+  public synchronized void start(boolean startEventProcessor) {
     startEventSource(eventSources.namedControllerResourceEventSource());
     eventSources.additionalNamedEventSources().parallel().forEach(this::startEventSource);
+    if (startEventProcessor) {
+      eventProcessor.start();
+    }
+  }
+
+  public synchronized void startEventProcessor() {
     eventProcessor.start();
   }
 
+  public void changeOwnership(Predicate<ResourceID> ownership) {
+    eventProcessor.changeOwnership(ownership);
+  }
+
+  public synchronized void stopEventProcessor() {
+    eventProcessor.stop();
+  }
+
+  /**
+   * Stops processing events, then waits for the reconciliations in progress to finish.
+   *
+   * @param timeout the maximal time to wait for the reconciliations in progress
+   * @return {@code true} if no reconciliation is in progress anymore
+   */
+  public boolean stopEventProcessor(Duration timeout) {
+    stopEventProcessor();
+    try {
+      return eventProcessor.awaitReconciliationsInProgress(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   @Override
   public synchronized void stop() {
     stopEventSource(eventSources.namedControllerResourceEventSource());
@@ -91,6 +147,11 @@ public class EventSourceManager<R extends HasMetadata> implements LifecycleAware
   private void startEventSource(NamedEventSource eventSource) {
     try {
       logEventSourceEvent(eventSource, "Starting");
+      if (informerRegistry != null
+          && eventSource.original() instanceof ManagedInformerEventSource) {
+        ((ManagedInformerEventSource<?, ?, ?>) eventSource.original())
+            .setInformerRegistry(informerRegistry);
+      }
       eventSource.start();
       logEventSourceEvent(eventSource, "Started");
     } catch (MissingCRDException e) {
@@ -152,6 +213,8 @@ public class EventSourceManager<R extends HasMetadata> implements LifecycleAware
   }
 
   public void changeNamespaces(Set<String> namespaces) {
+    // processing might not have been started yet, e.g. on standby replicas
+    final var processing = eventProcessor.isRunning();
     eventProcessor.stop();
     eventSources.controllerResourceEventSource()
         .changeNamespaces(namespaces);
@@ -162,7 +225,9 @@ public class EventSourceManager<R extends HasMetadata> implements LifecycleAware
         .filter(NamespaceChangeable::allowsNamespaceChanges)
         .parallel()
         .forEach(ies -> ies.changeNamespaces(namespaces));
-    eventProcessor.start();
+    if (processing) {
+      eventProcessor.start();
+    }
   }
 
   EventHandler getEventHandler() {
@@ -1,8 +1,6 @@
 package io.javaoperatorsdk.operator.processing.event;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +11,8 @@ import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.dsl.internal.HasMetadataOperationsImpl;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.OperatorException;
@@ -28,6 +28,12 @@ import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.processing.Controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getName;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getUID;
 import static io.javaoperatorsdk.operator.processing.KubernetesResourceUtils.getVersion;
@@ -108,7 +114,9 @@ class ReconciliationDispatcher<R extends HasMetadata> {
        * finalizer add. This will make sure that the resources are not created before there is a
        * finalizer.
        */
-      var updatedResource = updateCustomResourceWithFinalizer(originalResource);
+      // the original resource is shared with the cache so the finalizer is added to the copy
+      var updatedResource =
+          updateCustomResourceWithFinalizer(resourceForExecution, originalResource);
       return PostExecutionControl.onlyFinalizerAdded(updatedResource);
     } else {
       try {
@@ -136,30 +144,35 @@ class ReconciliationDispatcher<R extends HasMetadata> {
     R updatedCustomResource = null;
     if (updateControl.isUpdateResourceAndStatus()) {
       updatedCustomResource =
-          updateCustomResource(updateControl.getResource());
+          updateCustomResource(updateControl.getResource(), originalResource);
       updateControl
           .getResource()
           .getMetadata()
           .setResourceVersion(updatedCustomResource.getMetadata().getResourceVersion());
-      updatedCustomResource =
-          updateStatusGenerationAware(updateControl.getResource(), originalResource,
-              updateControl.isPatch());
+      final var statusUpdated = updateStatusGenerationAware(updateControl.getResource(),
+          originalResource, updateControl.isPatch());
+      if (statusUpdated != null) {
+        updatedCustomResource = statusUpdated;
+      }
     } else if (updateControl.isUpdateStatus()) {
       updatedCustomResource =
           updateStatusGenerationAware(updateControl.getResource(), originalResource,
               updateControl.isPatch());
     } else if (updateControl.isUpdateResource()) {
       updatedCustomResource =
-          updateCustomResource(updateControl.getResource());
+          updateCustomResource(updateControl.getResource(), originalResource);
       if (shouldUpdateObservedGenerationAutomatically(updatedCustomResource)) {
-        updatedCustomResource =
-            updateStatusGenerationAware(updateControl.getResource(), originalResource,
-                updateControl.isPatch());
+        final var statusUpdated = updateStatusGenerationAware(updateControl.getResource(),
+            originalResource, updateControl.isPatch());
+        if (statusUpdated != null) {
+          updatedCustomResource = statusUpdated;
+        }
       }
     } else if (updateControl.isNoUpdate()
         && shouldUpdateObservedGenerationAutomatically(resourceForExecution)) {
       updatedCustomResource =
-          updateStatusGenerationAware(originalResource, originalResource, updateControl.isPatch());
+          updateStatusGenerationAware(cloneResource(originalResource), originalResource,
+              updateControl.isPatch());
     }
     return createPostExecutionControl(updatedCustomResource, updateControl);
   }
@@ -187,8 +200,8 @@ class ReconciliationDispatcher<R extends HasMetadata> {
 
         R updatedResource = null;
         if (errorStatusUpdateControl.getResource().isPresent()) {
-          updatedResource = errorStatusUpdateControl.isPatch() ? customResourceFacade
-              .patchStatus(errorStatusUpdateControl.getResource().orElseThrow(), originalResource)
+          updatedResource = errorStatusUpdateControl.isPatch()
+              ? patchStatus(errorStatusUpdateControl.getResource().orElseThrow(), originalResource)
               : customResourceFacade
                   .updateStatus(errorStatusUpdateControl.getResource().orElseThrow());
         }
@@ -215,12 +228,30 @@ class ReconciliationDispatcher<R extends HasMetadata> {
   private R updateStatusGenerationAware(R resource, R originalResource, boolean patch) {
     updateStatusObservedGenerationIfRequired(resource);
     if (patch) {
-      return customResourceFacade.patchStatus(resource, originalResource);
+      return patchStatus(resource, originalResource);
     } else {
       return customResourceFacade.updateStatus(resource);
     }
   }
 
+  private R patchStatus(R resource, R originalResource) {
+    // the event of the patch might be received before the patch call returns
+    final var resourceID = ResourceID.fromResource(originalResource);
+    final var eventSource = controller.getEventSourceManager().getControllerResourceEventSource();
+    eventSource.prepareForStatusPatchEventFiltering(resourceID);
+    R patched = null;
+    try {
+      patched = customResourceFacade.patchStatus(resource, originalResource);
+      return patched;
+    } finally {
+      if (patched != null) {
+        eventSource.handleRecentStatusPatch(resourceID, patched, originalResource);
+      } else {
+        eventSource.cleanupOnStatusPatchEventFiltering(resourceID);
+      }
+    }
+  }
+
   @SuppressWarnings("rawtypes")
   private boolean shouldUpdateObservedGenerationAutomatically(R resource) {
     if (configuration().isGenerationAware() && resource instanceof CustomResource<?, ?>) {
@@ -303,16 +334,28 @@ class ReconciliationDispatcher<R extends HasMetadata> {
     return postExecutionControl;
   }
 
-  private R updateCustomResourceWithFinalizer(R resource) {
+  private R updateCustomResourceWithFinalizer(R resource, R originalResource) {
     log.debug(
         "Adding finalizer for resource: {} version: {}", getUID(resource), getVersion(resource));
     resource.addFinalizer(configuration().getFinalizerName());
-    return customResourceFacade.replaceResourceWithLock(resource);
+    return replaceResource(resource, originalResource);
   }
 
-  private R updateCustomResource(R resource) {
+  private R updateCustomResource(R resource, R originalResource) {
     log.debug("Updating resource: {} with version: {}", getUID(resource), getVersion(resource));
     log.trace("Resource before update: {}", resource);
+    return replaceResource(resource, originalResource);
+  }
+
+  /**
+   * Replaces the resource, unless resources are pruned before being cached, in which case replacing
+   * them would drop the pruned fields on the server: the changes made to the original resource are
+   * patched instead.
+   */
+  private R replaceResource(R resource, R originalResource) {
+    if (configuration().cachePruneFunction().isPresent()) {
+      return customResourceFacade.patchResourceWithLock(resource, originalResource);
+    }
     return customResourceFacade.replaceResourceWithLock(resource);
   }
 
@@ -327,11 +370,13 @@ class ReconciliationDispatcher<R extends HasMetadata> {
     int retryIndex = 0;
     while (true) {
       try {
+        final var originalResource =
+            configuration().cachePruneFunction().isPresent() ? cloneResource(resource) : null;
         var removed = resource.removeFinalizer(finalizer);
         if (!removed) {
           return resource;
         }
-        return customResourceFacade.replaceResourceWithLock(resource);
+        return replaceResource(resource, originalResource);
       } catch (KubernetesClientException e) {
         log.trace("Exception during finalizer removal for resource: {}", resource);
         retryIndex++;
@@ -354,6 +399,17 @@ class ReconciliationDispatcher<R extends HasMetadata> {
   // created to support unit testing
   static class CustomResourceFacade<R extends HasMetadata> {
 
+    private static final ClassValue<Boolean> overridesEquals = new ClassValue<>() {
+      @Override
+      protected Boolean computeValue(Class<?> type) {
+        try {
+          return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+          return false;
+        }
+      }
+    };
+
     private final MixedOperation<R, KubernetesResourceList<R>, Resource<R>> resourceOperation;
 
     public CustomResourceFacade(
@@ -377,6 +433,55 @@ class ReconciliationDispatcher<R extends HasMetadata> {
           .replace(resource);
     }
 
+    /**
+     * Patches the resource with the changes made to it since the original resource was received,
+     * failing if the resource was modified meanwhile. Unlike replacing the resource, this leaves
+     * the fields missing from both resources untouched, e.g. the ones pruned from cached resources.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public R patchResourceWithLock(R resource, R originalResource) {
+      log.debug(
+          "Trying to patch resource {}, version: {}",
+          getName(resource),
+          resource.getMetadata().getResourceVersion());
+      final var mapper = Serialization.jsonMapper();
+      final var patch = (ObjectNode) mergePatch(mapper.valueToTree(originalResource),
+          mapper.valueToTree(resource));
+      // the resource version of a patch is checked as for a replace
+      final var metadata = patch.has("metadata") ? (ObjectNode) patch.get("metadata")
+          : patch.putObject("metadata");
+      metadata.put("resourceVersion", resource.getMetadata().getResourceVersion());
+      // the operation is given the resource so that the client doesn't read it before patching it
+      HasMetadataOperationsImpl hasMetadataOperation = (HasMetadataOperationsImpl) resourceOperation
+          .inNamespace(resource.getMetadata().getNamespace());
+      return (R) hasMetadataOperation.withItem(originalResource)
+          .patch(PatchContext.of(PatchType.JSON_MERGE), patch.toString());
+    }
+
+    /**
+     * Computes the JSON merge patch (RFC 7386) turning the source document into the target one.
+     */
+    static JsonNode mergePatch(JsonNode source, JsonNode target) {
+      if (!source.isObject() || !target.isObject()) {
+        return target;
+      }
+      final var patch = JsonNodeFactory.instance.objectNode();
+      source.fieldNames().forEachRemaining(name -> {
+        if (!target.has(name)) {
+          patch.putNull(name);
+        }
+      });
+      target.fields().forEachRemaining(field -> {
+        final var sourceValue = source.get(field.getKey());
+        if (sourceValue == null) {
+          patch.set(field.getKey(), field.getValue());
+        } else if (!sourceValue.equals(field.getValue())) {
+          patch.set(field.getKey(), mergePatch(sourceValue, field.getValue()));
+        }
+      });
+      return patch;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     public R updateStatus(R resource) {
       log.trace("Updating status for resource: {}", resource);
@@ -387,26 +492,69 @@ class ReconciliationDispatcher<R extends HasMetadata> {
       return (R) hasMetadataOperation.replaceStatus(resource);
     }
 
+    /**
+     * Patches the status of the resource, without optimistic locking, with a JSON merge patch only
+     * holding the identity of the resource and its new status.
+     *
+     * @return the patched resource or {@code null} if the status didn't change, in which case no
+     *         request is sent
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
     public R patchStatus(R resource, R originalResource) {
+      if (statusUnchanged(resource, originalResource)) {
+        log.trace("Skipping status patch, status didn't change for resource: {}", resource);
+        return null;
+      }
       log.trace("Updating status for resource: {}", resource);
-      String resourceVersion = resource.getMetadata().getResourceVersion();
-      // don't do optimistic locking on patch
-      originalResource.getMetadata().setResourceVersion(null);
-      resource.getMetadata().setResourceVersion(null);
-      try (var bis = new ByteArrayInputStream(
-          Serialization.asJson(originalResource).getBytes(StandardCharsets.UTF_8))) {
-        return resourceOperation
-            .inNamespace(resource.getMetadata().getNamespace())
-            // will be simplified in fabric8 v6
-            .load(bis)
-            .editStatus(r -> resource);
-      } catch (IOException e) {
+      return resourceOperation
+          .inNamespace(resource.getMetadata().getNamespace())
+          .withName(getName(resource))
+          .patchStatus(statusOnly(resource));
+    }
+
+    /**
+     * Copies the identity and the status of the resource, leaving the resource version out so that
+     * the patch is not rejected if the resource was modified meanwhile.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <R extends HasMetadata> R statusOnly(R resource) {
+      final var mapper = Serialization.jsonMapper();
+      final var status = resource instanceof CustomResource
+          ? mapper.valueToTree(((CustomResource) resource).getStatus())
+          : mapper.valueToTree(resource).path("status");
+      final var copy = mapper.createObjectNode()
+          .put("apiVersion", resource.getApiVersion())
+          .put("kind", resource.getKind());
+      copy.putObject("metadata")
+          .put("name", resource.getMetadata().getName())
+          .put("namespace", resource.getMetadata().getNamespace());
+      copy.set("status", status.isMissingNode() ? NullNode.getInstance() : status);
+      try {
+        return (R) mapper.treeToValue(copy, resource.getClass());
+      } catch (JsonProcessingException e) {
         throw new IllegalStateException(e);
-      } finally {
-        // restore initial resource version
-        originalResource.getMetadata().setResourceVersion(resourceVersion);
-        resource.getMetadata().setResourceVersion(resourceVersion);
       }
     }
+
+    @SuppressWarnings("rawtypes")
+    private static boolean statusUnchanged(HasMetadata resource, HasMetadata originalResource) {
+      final var mapper = Serialization.jsonMapper();
+      if (resource instanceof CustomResource && originalResource instanceof CustomResource) {
+        final var status = ((CustomResource) resource).getStatus();
+        final var originalStatus = ((CustomResource) originalResource).getStatus();
+        if (Objects.equals(status, originalStatus)) {
+          return true;
+        }
+        if (status == null || originalStatus == null
+            || (status.getClass() == originalStatus.getClass()
+                && overridesEquals.get(status.getClass()))) {
+          return false;
+        }
+        // status classes not implementing equals are compared by value
+        return mapper.valueToTree(status).equals(mapper.valueToTree(originalStatus));
+      }
+      return mapper.valueToTree(resource).path("status")
+          .equals(mapper.valueToTree(originalResource).path("status"));
+    }
   }
 }
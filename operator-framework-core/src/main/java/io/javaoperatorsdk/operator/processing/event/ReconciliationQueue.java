@@ -0,0 +1,328 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
+
+/**
+ * Orders the reconciliations of a controller waiting for a thread according to the priority of
+ * their {@link ReconciliationTrigger}. Reconciliations are not handed to the executor directly,
+ * which would run them in submission order: instead, at most {@code maxWorkers} workers are
+ * submitted to the executor, each of them running the highest priority queued reconciliation and
+ * then submitting itself again to the executor if reconciliations are still queued, so that workers
+ * of different controllers sharing an executor take turns. Reconciliations with the same priority
+ * run in submission order.
+ */
+class ReconciliationQueue {
+
+  private static final Logger log = LoggerFactory.getLogger(ReconciliationQueue.class);
+  // set while a worker is handed to the executor to detect executors running it on the caller
+  // thread, which might hold the lock of a different resource than the one the worker would run
+  private static final ThreadLocal<Boolean> submitting = ThreadLocal.withInitial(() -> false);
+  // work to run on the calling thread once it released the lock it submitted executions under
+  private static final ThreadLocal<Deque<Runnable>> deferred = ThreadLocal.withInitial(
+      ArrayDeque::new);
+  private static final ThreadLocal<Boolean> runningWorker = ThreadLocal.withInitial(() -> false);
+  private static final ThreadLocal<Boolean> runningDeferredWork =
+      ThreadLocal.withInitial(() -> false);
+
+  private final String controllerName;
+  private final String poolName;
+  private final Executor executor;
+  private final int maxWorkers;
+  private final int capacity;
+  private final RejectionPolicy rejectionPolicy;
+  private final Metrics metrics;
+  // rank of each trigger, indexed by ordinal, the lower the rank the higher the priority
+  private final int[] ranks;
+  private final PriorityBlockingQueue<QueuedExecution> queue = new PriorityBlockingQueue<>();
+  private final AtomicInteger workers = new AtomicInteger();
+  private final AtomicLong sequence = new AtomicLong();
+  // time at which the queue was found full, as given by System.nanoTime(), 0 if not full since the
+  // queue was last drained
+  private final AtomicLong fullSince = new AtomicLong();
+  private final AtomicInteger waitingForSpace = new AtomicInteger();
+  private final Object spaceAvailable = new Object();
+
+  ReconciliationQueue(String controllerName, String poolName, Executor executor, int maxWorkers,
+      int capacity, RejectionPolicy rejectionPolicy, List<ReconciliationTrigger> priorities,
+      Metrics metrics) {
+    if (maxWorkers <= 0) {
+      throw new IllegalArgumentException(
+          "Maximal number of workers must be positive, was: " + maxWorkers);
+    }
+    this.controllerName = controllerName;
+    this.poolName = poolName;
+    this.executor = executor;
+    this.maxWorkers = maxWorkers;
+    this.capacity = capacity;
+    this.rejectionPolicy = rejectionPolicy;
+    this.metrics = metrics;
+    this.ranks = new int[ReconciliationTrigger.values().length];
+    Arrays.fill(ranks, priorities.size());
+    // iterate backwards so that the first occurrence of a trigger wins
+    for (int i = priorities.size() - 1; i >= 0; i--) {
+      ranks[priorities.get(i).ordinal()] = i;
+    }
+    metrics.monitorBacklog(controllerName, poolName, Collections.unmodifiableCollection(queue));
+  }
+
+  /**
+   * Checks whether the current thread is running reconciliations, for any controller.
+   *
+   * @return {@code true} if the current thread is a worker of a {@link ReconciliationQueue}
+   */
+  static boolean isWorkerThread() {
+    return runningWorker.get();
+  }
+
+  /**
+   * Runs the work deferred by executions submitted from the current thread which had to run on that
+   * thread, i.e. workers run on the calling thread by the executor, e.g. a direct executor, and
+   * executions run on the calling thread because the queue is full and the rejection policy is
+   * {@link RejectionPolicy#CALLER_RUNS}. This must be called once the thread released the locks it
+   * held while submitting executions, since these might be needed by the deferred work.
+   */
+  static void runDeferredWork() {
+    if (runningDeferredWork.get()) {
+      // the work deferred meanwhile is run by the enclosing call
+      return;
+    }
+    runningDeferredWork.set(true);
+    try {
+      final var work = deferred.get();
+      Runnable next;
+      while ((next = work.poll()) != null) {
+        next.run();
+      }
+    } finally {
+      runningDeferredWork.set(false);
+    }
+  }
+
+  /**
+   * Checks whether reconciliations triggered by the first specified trigger are dispatched before
+   * the ones triggered by the second one.
+   *
+   * @param trigger the trigger to check
+   * @param other the trigger to compare to
+   * @return {@code true} if the first trigger has a strictly higher priority than the second one
+   */
+  boolean hasPriorityOver(ReconciliationTrigger trigger, ReconciliationTrigger other) {
+    return ranks[trigger.ordinal()] < ranks[other.ordinal()];
+  }
+
+  /**
+   * Queues the specified execution so that it runs once a worker is available and no execution with
+   * a higher priority is waiting. If the queue is full and the rejection policy is
+   * {@link RejectionPolicy#CALLER_RUNS}, the execution is run on the calling thread, as are the
+   * workers the executor runs on the calling thread, both once {@link #runDeferredWork()} is
+   * called.
+   *
+   * @param trigger what triggered the execution, determining its priority
+   * @param execution the execution to run
+   * @return {@code false} if the execution was rejected, either because the queue is full or
+   *         because the executor didn't accept a new worker, in which case it is not queued and the
+   *         caller is responsible for submitting it again later
+   */
+  boolean submit(ReconciliationTrigger trigger, Runnable execution) {
+    if (capacity != ThreadPoolConfiguration.UNBOUNDED_QUEUE && isFull(capacity)) {
+      if (rejectionPolicy == RejectionPolicy.CALLER_RUNS) {
+        log.debug("Queue of controller: {} is full, running execution on the caller thread",
+            controllerName);
+        deferred.get().add(execution);
+        return true;
+      }
+      return false;
+    }
+
+    final var queued = new QueuedExecution(trigger, ranks[trigger.ordinal()],
+        sequence.getAndIncrement(), execution);
+    queue.add(queued);
+    if (!tryAddWorker() || startWorker()) {
+      // if no worker could be added, the running ones will pick up the execution before stopping
+      return true;
+    }
+    workers.decrementAndGet();
+    // the execution might have been picked up by a running worker meanwhile
+    return !queue.remove(queued);
+  }
+
+  int size() {
+    return queue.size();
+  }
+
+  /**
+   * Checks whether the specified number of executions, or more, are queued.
+   *
+   * @param maxPending the maximal number of queued executions
+   * @return {@code true} if no more executions should be queued
+   */
+  boolean isFull(int maxPending) {
+    if (queue.size() < maxPending) {
+      return false;
+    }
+    fullSince.compareAndSet(0, System.nanoTime());
+    return true;
+  }
+
+  /**
+   * Waits until less than the specified number of executions are queued or the specified timeout
+   * elapses.
+   *
+   * @param maxPending the maximal number of queued executions
+   * @param timeout the maximal time to wait
+   * @return {@code true} if the queue isn't full, {@code false} if the timeout elapsed
+   * @throws InterruptedException if the current thread was interrupted while waiting
+   */
+  boolean awaitNotFull(int maxPending, Duration timeout) throws InterruptedException {
+    final var deadline = System.nanoTime() + timeout.toNanos();
+    waitingForSpace.incrementAndGet();
+    try {
+      synchronized (spaceAvailable) {
+        while (isFull(maxPending)) {
+          final var remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            return false;
+          }
+          TimeUnit.NANOSECONDS.timedWait(spaceAvailable, remaining);
+        }
+        return true;
+      }
+    } finally {
+      waitingForSpace.decrementAndGet();
+    }
+  }
+
+  private boolean tryAddWorker() {
+    int current;
+    do {
+      current = workers.get();
+      if (current >= maxWorkers) {
+        return false;
+      }
+    } while (!workers.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private boolean startWorker() {
+    final var worker = new Worker();
+    submitting.set(true);
+    try {
+      executor.execute(worker);
+    } catch (RejectedExecutionException e) {
+      log.debug("Executor rejected worker for controller: {}", controllerName);
+      return false;
+    } finally {
+      submitting.set(false);
+    }
+    return true;
+  }
+
+  private class Worker implements Runnable {
+
+    @Override
+    public void run() {
+      if (Boolean.TRUE.equals(submitting.get())) {
+        log.debug("Worker of controller: {} run on the caller thread", controllerName);
+        deferred.get().add(this::work);
+        return;
+      }
+      work();
+    }
+
+    private void work() {
+      // workers run on the caller thread might run within another worker
+      final var worker = runningWorker.get();
+      runningWorker.set(true);
+      try {
+        runNext();
+      } finally {
+        runningWorker.set(worker);
+      }
+      // the executor might have run the next worker on this thread
+      runDeferredWork();
+    }
+
+    private void runNext() {
+      while (true) {
+        final var next = queue.poll();
+        if (next != null) {
+          if (waitingForSpace.get() > 0) {
+            synchronized (spaceAvailable) {
+              spaceAvailable.notifyAll();
+            }
+          }
+          execute(next);
+        }
+        if (queue.isEmpty()) {
+          final var full = fullSince.getAndSet(0);
+          if (full != 0) {
+            metrics.backlogDrained(controllerName, Duration.ofNanos(System.nanoTime() - full));
+          }
+          workers.decrementAndGet();
+          // an execution might have been queued after the queue was found empty but before the
+          // worker count was decremented, in which case its submitter didn't start a new worker
+          if (queue.isEmpty() || !tryAddWorker()) {
+            return;
+          }
+        }
+        // give the thread back to the executor, so that the executions queued by other
+        // controllers sharing it are not delayed until this queue is empty
+        if (startWorker()) {
+          return;
+        }
+        // the executor rejected the worker, keep running the queued executions on this thread
+      }
+    }
+
+    private void execute(QueuedExecution queued) {
+      metrics.reconciliationQueueWait(controllerName, queued.trigger,
+          Duration.ofNanos(System.nanoTime() - queued.queuedAt));
+      try {
+        queued.execution.run();
+      } catch (RuntimeException e) {
+        log.error("Error executing queued reconciliation of controller: {}", controllerName, e);
+      }
+    }
+  }
+
+  private static class QueuedExecution implements Comparable<QueuedExecution> {
+    private final ReconciliationTrigger trigger;
+    private final int rank;
+    private final long sequence;
+    private final long queuedAt = System.nanoTime();
+    private final Runnable execution;
+
+    private QueuedExecution(ReconciliationTrigger trigger, int rank, long sequence,
+        Runnable execution) {
+      this.trigger = trigger;
+      this.rank = rank;
+      this.sequence = sequence;
+      this.execution = execution;
+    }
+
+    @Override
+    public int compareTo(QueuedExecution other) {
+      final var byRank = Integer.compare(rank, other.rank);
+      return byRank != 0 ? byRank : Long.compare(sequence, other.sequence);
+    }
+  }
+}
@@ -25,10 +25,14 @@ public class ResourceID implements Serializable {
 
   private final String name;
   private final String namespace;
+  // ResourceIDs are used as keys of most maps of the event pipeline and are looked up on every
+  // event
+  private final int hash;
 
   public ResourceID(String name, String namespace) {
     this.name = name;
     this.namespace = namespace;
+    this.hash = 31 * (31 + Objects.hashCode(name)) + Objects.hashCode(namespace);
   }
 
   public ResourceID(String name) {
@@ -50,13 +54,13 @@ public class ResourceID implements Serializable {
     if (o == null || getClass() != o.getClass())
       return false;
     ResourceID that = (ResourceID) o;
-    return Objects.equals(name, that.name) && Objects.equals(namespace,
+    return hash == that.hash && Objects.equals(name, that.name) && Objects.equals(namespace,
         that.namespace);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, namespace);
+    return hash;
   }
 
   @Override
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
 
@@ -32,6 +33,12 @@ class ResourceState {
   private RetryExecution retry;
   private EventingState eventing;
   private RateLimitState rateLimit;
+  // highest priority trigger of the events received since the last submitted reconciliation
+  private ReconciliationTrigger trigger;
+  // debounce timestamps, as given by System.nanoTime(), only meaningful while debouncing
+  private boolean debouncing;
+  private long debounceStart;
+  private long debounceUntil;
 
   public ResourceState(ResourceID id) {
     this.id = id;
@@ -58,6 +65,39 @@ class ResourceState {
     this.retry = retry;
   }
 
+  public ReconciliationTrigger getTrigger() {
+    return trigger;
+  }
+
+  public void setTrigger(ReconciliationTrigger trigger) {
+    this.trigger = trigger;
+  }
+
+  public boolean isDebouncing() {
+    return debouncing;
+  }
+
+  public void startDebouncing(long start) {
+    debouncing = true;
+    debounceStart = start;
+  }
+
+  public void stopDebouncing() {
+    debouncing = false;
+  }
+
+  public long getDebounceStart() {
+    return debounceStart;
+  }
+
+  public long getDebounceUntil() {
+    return debounceUntil;
+  }
+
+  public void setDebounceUntil(long debounceUntil) {
+    this.debounceUntil = debounceUntil;
+  }
+
   public boolean isUnderProcessing() {
     return underProcessing;
   }
@@ -66,6 +106,18 @@ class ResourceState {
     this.underProcessing = underProcessing;
   }
 
+  /**
+   * Checks whether nothing is going on for the resource, i.e. no event to process, no ongoing
+   * reconciliation, retry or debouncing, in which case the state only needs to be kept if it still
+   * holds rate limiting information.
+   *
+   * @return {@code true} if the resource is idle
+   */
+  public boolean isIdle() {
+    return eventing == EventingState.NO_EVENT_PRESENT && !underProcessing && retry == null
+        && !debouncing;
+  }
+
   public void markDeleteEventReceived() {
     eventing = EventingState.DELETE_EVENT_PRESENT;
   }
@@ -1,16 +1,57 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 class ResourceStateManager {
+  /**
+   * Number of lock stripes used to guard per-resource state transitions, needs to be a power of
+   * two.
+   */
+  static final int DEFAULT_LOCK_STRIPES = 256;
+
   // maybe we should have a way for users to specify a hint on the amount of CRs their reconciler
   // will process to avoid under- or over-sizing the state maps and avoid too many resizing that
   // take time and memory?
   private final Map<ResourceID, ResourceState> states = new ConcurrentHashMap<>(100);
+  private final Object[] locks;
+
+  ResourceStateManager() {
+    this(DEFAULT_LOCK_STRIPES);
+  }
+
+  ResourceStateManager(int lockStripes) {
+    if (lockStripes <= 0 || Integer.bitCount(lockStripes) != 1) {
+      throw new IllegalArgumentException(
+          "Lock stripes number must be a positive power of two, was: " + lockStripes);
+    }
+    locks = new Object[lockStripes];
+    for (int i = 0; i < lockStripes; i++) {
+      locks[i] = new Object();
+    }
+  }
 
+  /**
+   * Returns the lock guarding the state of the resource identified by the specified
+   * {@link ResourceID}. The same lock is always returned for a given resource, even across removal
+   * and re-creation of its state, while different resources are spread over distinct locks so that
+   * their events can be processed concurrently.
+   *
+   * @param resourceID the identifier of the resource which state needs to be guarded
+   * @return the lock to synchronize on when reading or modifying the associated state
+   */
+  public Object lockFor(ResourceID resourceID) {
+    final int hash = resourceID.hashCode();
+    return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+  }
+
+  public Optional<ResourceState> get(ResourceID resourceID) {
+    return Optional.ofNullable(states.get(resourceID));
+  }
 
   public ResourceState getOrCreate(ResourceID resourceID) {
     return states.computeIfAbsent(resourceID, ResourceState::new);
@@ -24,6 +65,10 @@ class ResourceStateManager {
     return states.containsKey(resourceID);
   }
 
+  Map<ResourceID, ResourceState> states() {
+    return Collections.unmodifiableMap(states);
+  }
+
   public List<ResourceState> resourcesWithEventPresent() {
     return states.values().stream()
         .filter(state -> !state.noEventPresent())
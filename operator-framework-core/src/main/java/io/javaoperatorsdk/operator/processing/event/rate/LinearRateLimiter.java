@@ -54,6 +54,13 @@ public class LinearRateLimiter
     }
   }
 
+  @Override
+  public boolean canDiscard(RateLimitState rateLimitState) {
+    return !isActivated() || !(rateLimitState instanceof RateState)
+        || ((RateState) rateLimitState).getLastRefreshTime()
+            .isBefore(LocalDateTime.now().minus(refreshPeriod));
+  }
+
   @Override
   public RateState initState() {
     return RateState.initialState();
@@ -18,4 +18,25 @@ public @interface RateLimited {
    * @return time unit for max delay between reconciliations
    */
   TimeUnit unit() default TimeUnit.SECONDS;
+
+  /**
+   * Which reconciliations share the same limit. Only taken into account by rate limiters supporting
+   * shared limits, such as {@link TokenBucketRateLimiter}, {@link LinearRateLimiter} always limits
+   * each resource separately.
+   *
+   * @return the scope of the limit
+   */
+  Scope scope() default Scope.RESOURCE;
+
+  enum Scope {
+    /** Reconciliations of each resource are limited separately */
+    RESOURCE,
+    /** Reconciliations of all the resources of the controller are limited together */
+    CONTROLLER,
+    /**
+     * Reconciliations of all the controllers of the operator using this scope are limited together,
+     * these controllers must be configured with the same limit
+     */
+    OPERATOR
+  }
 }
@@ -16,4 +16,16 @@ public interface RateLimiter<S extends RateLimitState> {
   Optional<Duration> isLimited(RateLimitState rateLimitState);
 
   S initState();
+
+  /**
+   * Checks whether the specified state, as returned by {@link #initState()}, doesn't limit future
+   * permissions anymore, in which case it can be discarded and initialized again when needed.
+   * States are kept by default.
+   *
+   * @param rateLimitState the state to check
+   * @return {@code true} if the state can be discarded
+   */
+  default boolean canDiscard(RateLimitState rateLimitState) {
+    return false;
+  }
 }
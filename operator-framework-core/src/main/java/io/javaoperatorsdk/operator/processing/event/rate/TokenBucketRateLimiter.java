@@ -0,0 +1,156 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimited.Scope;
+
+/**
+ * A rate limiter allowing bursts of up to {@code limitForPeriod} reconciliations, after which
+ * permissions are refilled steadily at a rate of {@code limitForPeriod} per refresh period. Unlike
+ * {@link LinearRateLimiter}, the rate never exceeds the configured limit at the edges of a period.
+ * <p>
+ * Depending on its {@link Scope}, the limit applies to each resource separately, to all the
+ * resources of the controller or to all the controllers of the operator using the operator scope,
+ * which caps the rate of requests sent to the API server. The operator shares the limit of the
+ * first controller registered with the operator scope with the other ones, see
+ * {@link #shareLimitOf(TokenBucketRateLimiter)}.
+ * </p>
+ */
+public class TokenBucketRateLimiter
+    implements RateLimiter<TokenBucketRateLimiter.BucketState>,
+    AnnotationConfigurable<RateLimited> {
+
+  private Duration refreshPeriod;
+  private int limitForPeriod;
+  private Scope scope;
+  private BucketState sharedState;
+
+  public TokenBucketRateLimiter() {
+    this(LinearRateLimiter.DEFAULT_REFRESH_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD);
+  }
+
+  public TokenBucketRateLimiter(Duration refreshPeriod, int limitForPeriod) {
+    this(refreshPeriod, limitForPeriod, Scope.RESOURCE);
+  }
+
+  public TokenBucketRateLimiter(Duration refreshPeriod, int limitForPeriod, Scope scope) {
+    configure(refreshPeriod, limitForPeriod, scope);
+  }
+
+  private void configure(Duration refreshPeriod, int limitForPeriod, Scope scope) {
+    this.refreshPeriod = refreshPeriod;
+    this.limitForPeriod = limitForPeriod;
+    this.scope = scope;
+    // the state of the operator scope is replaced by the one of the operator once registered
+    sharedState = !isActivated() || scope == Scope.RESOURCE ? null : newState();
+  }
+
+  /**
+   * Makes this rate limiter use the limit of the specified one, so that the reconciliations they
+   * allow are limited together. This is done by the operator for the rate limiters of its
+   * controllers using the {@link Scope#OPERATOR} scope, before they are started.
+   *
+   * @param other the rate limiter which limit to share
+   * @throws OperatorException if both rate limiters aren't configured with the same limit
+   */
+  public void shareLimitOf(TokenBucketRateLimiter other) {
+    if (limitForPeriod != other.limitForPeriod || !refreshPeriod.equals(other.refreshPeriod)) {
+      throw new OperatorException("Cannot share rate limit of " + other.limitForPeriod
+          + " reconciliations per " + other.refreshPeriod + " with rate limiter configured with "
+          + limitForPeriod + " reconciliations per " + refreshPeriod
+          + ": controllers using the operator scope must be configured with the same limit");
+    }
+    sharedState = other.sharedState;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!isActivated() || !(rateLimitState instanceof BucketState)) {
+      return Optional.empty();
+    }
+    final var waitNanos = ((BucketState) rateLimitState).tryAcquire();
+    return waitNanos > 0 ? Optional.of(Duration.ofNanos(waitNanos)) : Optional.empty();
+  }
+
+  @Override
+  public BucketState initState() {
+    return sharedState != null ? sharedState : newState();
+  }
+
+  @Override
+  public boolean canDiscard(RateLimitState rateLimitState) {
+    // shared states are held by this limiter so resources don't need to keep them
+    return !isActivated() || rateLimitState == sharedState
+        || !(rateLimitState instanceof BucketState) || ((BucketState) rateLimitState).isFull();
+  }
+
+  private BucketState newState() {
+    final var emissionInterval = Math.max(1, refreshPeriod.toNanos() / limitForPeriod);
+    return new BucketState(emissionInterval, emissionInterval * (limitForPeriod - 1));
+  }
+
+  @Override
+  public void initFrom(RateLimited configuration) {
+    configure(Duration.of(configuration.within(), configuration.unit().toChronoUnit()),
+        configuration.maxReconciliations(), configuration.scope());
+  }
+
+  public boolean isActivated() {
+    return limitForPeriod > 0;
+  }
+
+  public int getLimitForPeriod() {
+    return limitForPeriod;
+  }
+
+  public Duration getRefreshPeriod() {
+    return refreshPeriod;
+  }
+
+  public Scope getScope() {
+    return scope;
+  }
+
+  /**
+   * Tracks the time at which the bucket would be full again if no permission was acquired meanwhile
+   * (a.k.a. generic cell rate algorithm), so that acquiring a permission only takes a read of
+   * {@link System#nanoTime()} and a compare-and-set, making it safe to share between resources.
+   */
+  public static class BucketState implements RateLimitState {
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+
+    private BucketState(long emissionInterval, long burstTolerance) {
+      this.emissionInterval = emissionInterval;
+      this.burstTolerance = burstTolerance;
+    }
+
+    private boolean isFull() {
+      return theoreticalArrivalTime.get() - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return 0 if a permission was acquired, otherwise the number of nanoseconds until one can be
+     */
+    private long tryAcquire() {
+      while (true) {
+        final var now = System.nanoTime();
+        final var current = theoreticalArrivalTime.get();
+        // nanoTime values can only be compared through their difference
+        final var start = current - now < 0 ? now : current;
+        final var wait = start - now - burstTolerance;
+        if (wait > 0) {
+          return wait;
+        }
+        if (theoreticalArrivalTime.compareAndSet(current, start + emissionInterval)) {
+          return 0;
+        }
+      }
+    }
+  }
+}
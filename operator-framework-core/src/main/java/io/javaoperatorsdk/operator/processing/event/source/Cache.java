@@ -12,8 +12,21 @@ public interface Cache<T> {
 
   Optional<T> get(ResourceID resourceID);
 
+  /**
+   * Retrieves the resource associated with the specified {@link ResourceID} like
+   * {@link #get(ResourceID)} but, for caches which return copies of the cached resources, returns
+   * the instance held by the cache instead, saving the cost of the copy. The returned resource is
+   * shared with all the other readers of the cache and therefore <em>MUST NOT</em> be modified.
+   *
+   * @param resourceID the {@link ResourceID} of the resource to retrieve
+   * @return the cached resource, if any, which must be treated as read-only
+   */
+  default Optional<T> getUnsafe(ResourceID resourceID) {
+    return get(resourceID);
+  }
+
   default boolean contains(ResourceID resourceID) {
-    return get(resourceID).isPresent();
+    return getUnsafe(resourceID).isPresent();
   }
 
   Stream<ResourceID> keys();
@@ -1,7 +1,13 @@
 package io.javaoperatorsdk.operator.processing.event.source.controller;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,9 +36,16 @@ public class ControllerResourceEventSource<T extends HasMetadata>
     implements ResourceEventHandler<T> {
 
   private static final Logger log = LoggerFactory.getLogger(ControllerResourceEventSource.class);
+  // time after which the event of a status patch is not expected anymore, e.g. because the watch
+  // was restarted meanwhile and the informer only received a later version of the resource
+  private static final long STATUS_PATCH_EXPIRY_NANOS = Duration.ofMinutes(2).toNanos();
 
   private final Controller<T> controller;
   private final ResourceEventFilter<T> legacyFilters;
+  // status patches done by the controller, so that the events they cause don't trigger another
+  // reconciliation
+  private final Map<ResourceID, StatusPatch<T>> statusPatches = new ConcurrentHashMap<>();
+  private volatile long nextStatusPatchesExpiry;
 
   @SuppressWarnings("unchecked")
   public ControllerResourceEventSource(Controller<T> controller) {
@@ -70,20 +83,138 @@ public class ControllerResourceEventSource<T extends HasMetadata>
       log.debug("Event received for resource: {}", getName(resource));
       MDCUtils.addResourceInfo(resource);
       controller.getEventSourceManager().broadcastOnResourceEvent(action, resource, oldResource);
-      if ((legacyFilters == null ||
-          legacyFilters.acceptChange(controller, oldResource, resource))
-          && isAcceptedByFilters(action, resource, oldResource)) {
-        getEventHandler().handleEvent(
-            new ResourceEvent(action, ResourceID.fromResource(resource), resource));
-      } else {
-        log.debug("Skipping event handling resource {} with version: {}", getUID(resource),
-            getVersion(resource));
+      if (!isCausedByStatusPatch(action, resource, oldResource)) {
+        propagateEvent(action, resource, oldResource);
       }
     } finally {
       MDCUtils.removeResourceInfo();
     }
   }
 
+  private void propagateEvent(ResourceAction action, T resource, T oldResource) {
+    if ((legacyFilters == null || legacyFilters.acceptChange(controller, oldResource, resource))
+        && isAcceptedByFilters(action, resource, oldResource)) {
+      getEventHandler().handleEvent(
+          new ResourceEvent(action, ResourceID.fromResource(resource), resource,
+              generationChanged(action, resource, oldResource)));
+    } else {
+      log.debug("Skipping event handling resource {} with version: {}", getUID(resource),
+          getVersion(resource));
+    }
+  }
+
+  private boolean generationChanged(ResourceAction action, T resource, T oldResource) {
+    return action == ResourceAction.UPDATED && oldResource != null
+        && !Objects.equals(oldResource.getMetadata().getGeneration(),
+            resource.getMetadata().getGeneration());
+  }
+
+
+  /**
+   * Starts recording the events of a resource before the controller patches its status, so that the
+   * event caused by the patch can be skipped even if it is received before the patch call returns.
+   * Events received meanwhile are held back until
+   * {@link #handleRecentStatusPatch(ResourceID, HasMetadata, HasMetadata)} or
+   * {@link #cleanupOnStatusPatchEventFiltering(ResourceID)} is called.
+   *
+   * @param resourceID id of the resource which status is about to be patched
+   */
+  public void prepareForStatusPatchEventFiltering(ResourceID resourceID) {
+    statusPatches.put(resourceID, new StatusPatch<>());
+  }
+
+  /**
+   * Records the status patch of a resource done by the controller, so that the event it causes is
+   * not propagated. The event is only skipped if the informer receives the patched version right
+   * after the version the patch was applied on, i.e. if nothing else changed the resource
+   * meanwhile. If that is not the case, the last event held back since
+   * {@link #prepareForStatusPatchEventFiltering(ResourceID)} was called is propagated.
+   *
+   * @param resourceID id of the patched resource
+   * @param resource the resource returned by the status patch
+   * @param previousVersionOfResource the resource the status patch was applied on
+   */
+  public void handleRecentStatusPatch(ResourceID resourceID, T resource,
+      T previousVersionOfResource) {
+    final var previousResourceVersion = getVersion(previousVersionOfResource);
+    final var resourceVersion = getVersion(resource);
+    final var heldBack = new ArrayList<RecordedEvent<T>>(1);
+    statusPatches.compute(resourceID, (id, statusPatch) -> {
+      final var events = statusPatch != null ? statusPatch.events : List.<RecordedEvent<T>>of();
+      events.stream()
+          .filter(e -> !e.isCausedBy(previousResourceVersion, resourceVersion))
+          .reduce((first, second) -> second)
+          .ifPresent(heldBack::add);
+      if (events.stream().anyMatch(e -> e.isCausedBy(previousResourceVersion, resourceVersion))) {
+        return null;
+      }
+      return new StatusPatch<>(previousResourceVersion, resourceVersion,
+          System.nanoTime() + STATUS_PATCH_EXPIRY_NANOS);
+    });
+    heldBack.forEach(this::propagateEvent);
+    expireStatusPatches();
+  }
+
+  /**
+   * Stops recording the events of a resource which status could not be patched, propagating the
+   * last event held back since {@link #prepareForStatusPatchEventFiltering(ResourceID)} was called,
+   * if any. Meant to be called when the patch failed or was not sent.
+   *
+   * @param resourceID id of the resource
+   */
+  public void cleanupOnStatusPatchEventFiltering(ResourceID resourceID) {
+    final var statusPatch = statusPatches.remove(resourceID);
+    if (statusPatch != null && statusPatch.isRecording() && !statusPatch.events.isEmpty()) {
+      propagateEvent(statusPatch.events.get(statusPatch.events.size() - 1));
+    }
+  }
+
+  private void propagateEvent(RecordedEvent<T> event) {
+    try {
+      MDCUtils.addResourceInfo(event.resource);
+      propagateEvent(event.action, event.resource, event.oldResource);
+    } finally {
+      MDCUtils.removeResourceInfo();
+    }
+  }
+
+  private boolean isCausedByStatusPatch(ResourceAction action, T resource, T oldResource) {
+    if (statusPatches.isEmpty()) {
+      return false;
+    }
+    final var skipped = new boolean[1];
+    statusPatches.computeIfPresent(ResourceID.fromResource(resource), (id, statusPatch) -> {
+      if (statusPatch.isRecording()) {
+        // the patch is in progress, the event is held back until the patched version is known
+        statusPatch.events.add(new RecordedEvent<>(action, resource, oldResource));
+        skipped[0] = true;
+        return statusPatch;
+      }
+      // the recorded patch is dropped on the next event of the resource whether it matches or not
+      skipped[0] = action == ResourceAction.UPDATED && !statusPatch.isExpired(System.nanoTime())
+          && statusPatch.previousResourceVersion.equals(getVersion(oldResource))
+          && statusPatch.resourceVersion.equals(getVersion(resource));
+      return null;
+    });
+    if (skipped[0]) {
+      log.debug("Skipping event caused by status patch of resource {} with version: {}",
+          getUID(resource), getVersion(resource));
+    }
+    return skipped[0];
+  }
+
+  /**
+   * Drops the status patches which event was never received, at most once per expiry period.
+   */
+  private void expireStatusPatches() {
+    final var now = System.nanoTime();
+    if (now - nextStatusPatchesExpiry < 0) {
+      return;
+    }
+    nextStatusPatchesExpiry = now + STATUS_PATCH_EXPIRY_NANOS;
+    statusPatches.values().removeIf(statusPatch -> statusPatch.isExpired(now));
+  }
+
   private boolean isAcceptedByFilters(ResourceAction action, T resource, T oldResource) {
     // delete event is filtered for generic filter only.
     if (genericFilter != null && !genericFilter.accept(resource)) {
@@ -131,4 +262,52 @@ public class ControllerResourceEventSource<T extends HasMetadata>
     throw new IllegalStateException(
         "onDeleteFilter is not supported for controller resource event source");
   }
+
+  private static class StatusPatch<T extends HasMetadata> {
+    private final String previousResourceVersion;
+    private final String resourceVersion;
+    private final long expiresAt;
+    // events received while the patch is in progress
+    private final List<RecordedEvent<T>> events;
+
+    private StatusPatch() {
+      this.previousResourceVersion = null;
+      this.resourceVersion = null;
+      this.expiresAt = 0;
+      this.events = new ArrayList<>(1);
+    }
+
+    private StatusPatch(String previousResourceVersion, String resourceVersion, long expiresAt) {
+      this.previousResourceVersion = previousResourceVersion;
+      this.resourceVersion = resourceVersion;
+      this.expiresAt = expiresAt;
+      this.events = List.of();
+    }
+
+    private boolean isRecording() {
+      return resourceVersion == null;
+    }
+
+    private boolean isExpired(long now) {
+      return !isRecording() && now - expiresAt > 0;
+    }
+  }
+
+  private static class RecordedEvent<T extends HasMetadata> {
+    private final ResourceAction action;
+    private final T resource;
+    private final T oldResource;
+
+    private RecordedEvent(ResourceAction action, T resource, T oldResource) {
+      this.action = action;
+      this.resource = resource;
+      this.oldResource = oldResource;
+    }
+
+    private boolean isCausedBy(String previousResourceVersion, String resourceVersion) {
+      return action == ResourceAction.UPDATED
+          && previousResourceVersion.equals(getVersion(oldResource))
+          && resourceVersion.equals(getVersion(resource));
+    }
+  }
 }
@@ -11,12 +11,19 @@ public class ResourceEvent extends Event {
 
   private final ResourceAction action;
   private final HasMetadata resource;
+  private final boolean generationChanged;
 
   public ResourceEvent(ResourceAction action,
       ResourceID resourceID, HasMetadata resource) {
+    this(action, resourceID, resource, false);
+  }
+
+  public ResourceEvent(ResourceAction action, ResourceID resourceID, HasMetadata resource,
+      boolean generationChanged) {
     super(resourceID);
     this.action = action;
     this.resource = resource;
+    this.generationChanged = generationChanged;
   }
 
   @Override
@@ -35,6 +42,17 @@ public class ResourceEvent extends Event {
     return Optional.ofNullable(resource);
   }
 
+  /**
+   * Whether the generation of the resource changed with this update, i.e. whether its spec changed
+   * for resources whose generation is only increased on spec changes.
+   *
+   * @return {@code true} if the generation of the updated resource differs from the one of the
+   *         previous version of the resource, {@code false} if it didn't or if it is unknown
+   */
+  public boolean isGenerationChanged() {
+    return generationChanged;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
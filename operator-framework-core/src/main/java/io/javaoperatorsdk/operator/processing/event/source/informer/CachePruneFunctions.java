@@ -0,0 +1,173 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Built-in functions to prune resources before they are stored in informer caches, see
+ * {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#cachePruneFunction()}.
+ */
+public class CachePruneFunctions {
+
+  public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION =
+      "kubectl.kubernetes.io/last-applied-configuration";
+
+  // the built-in functions are constants so that informers pruning resources the same way can be
+  // shared, see io.javaoperatorsdk.operator.api.config.ConfigurationService#shareInformers()
+  private static final UnaryOperator<HasMetadata> MANAGED_FIELDS = resource -> {
+    final var metadata = resource.getMetadata();
+    if (metadata.getManagedFields() != null) {
+      metadata.setManagedFields(null);
+    }
+    return resource;
+  };
+  private static final UnaryOperator<HasMetadata> LAST_APPLIED_CONFIGURATION = resource -> {
+    final var metadata = resource.getMetadata();
+    final var annotations = metadata.getAnnotations();
+    if (annotations != null && annotations.containsKey(LAST_APPLIED_CONFIGURATION_ANNOTATION)) {
+      // the annotations are replaced instead of modified as they might be read concurrently
+      final var pruned = new HashMap<>(annotations);
+      pruned.remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+      metadata.setAnnotations(pruned);
+    }
+    return resource;
+  };
+  private static final UnaryOperator<HasMetadata> DEFAULTS =
+      all(MANAGED_FIELDS, LAST_APPLIED_CONFIGURATION);
+  private static final UnaryOperator<HasMetadata> METADATA_ONLY = new MetadataOnly<>();
+
+  private CachePruneFunctions() {}
+
+  /**
+   * Drops the managed fields of resources, which are only needed to compute server-side apply
+   * patches and often make up a large part of small resources.
+   *
+   * @param <R> the type of the pruned resources
+   * @return a function dropping the managed fields of resources
+   */
+  public static <R extends HasMetadata> UnaryOperator<R> managedFields() {
+    return cast(MANAGED_FIELDS);
+  }
+
+  /**
+   * Drops the annotation recording the last configuration applied with {@code kubectl apply}, which
+   * contains a full copy of the resource as it was applied.
+   *
+   * @param <R> the type of the pruned resources
+   * @return a function dropping the last applied configuration annotation of resources
+   */
+  public static <R extends HasMetadata> UnaryOperator<R> lastAppliedConfiguration() {
+    return cast(LAST_APPLIED_CONFIGURATION);
+  }
+
+  /**
+   * Drops both the managed fields and the last applied configuration annotation of resources.
+   *
+   * @param <R> the type of the pruned resources
+   * @return a function dropping metadata which is of no use to most reconcilers
+   */
+  public static <R extends HasMetadata> UnaryOperator<R> defaults() {
+    return cast(DEFAULTS);
+  }
+
+  /**
+   * Drops everything but the metadata of resources, for secondary resources which are only looked
+   * up by name, labels or owner references and whose content is never read, so that
+   * {@link io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper}s and the
+   * primary to secondary index keep working. Note that this can't be used for the resources of
+   * dependent resources which compare the actual state of the resources with the desired one.
+   *
+   * @param <R> the type of the pruned resources
+   * @return a function dropping everything but the metadata of resources
+   */
+  public static <R extends HasMetadata> UnaryOperator<R> metadataOnly() {
+    return cast(METADATA_ONLY);
+  }
+
+  /**
+   * Combines the specified functions, applying them in the specified order. Combinations of the
+   * same functions are equal.
+   *
+   * @param functions the functions to combine
+   * @param <R> the type of the pruned resources
+   * @return a function applying all the specified functions
+   */
+  @SafeVarargs
+  public static <R extends HasMetadata> UnaryOperator<R> all(UnaryOperator<R>... functions) {
+    return new All<>(List.of(functions));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R extends HasMetadata> UnaryOperator<R> cast(
+      UnaryOperator<? extends HasMetadata> function) {
+    return (UnaryOperator<R>) function;
+  }
+
+  private static class All<R extends HasMetadata> implements UnaryOperator<R> {
+    private final List<UnaryOperator<R>> functions;
+
+    private All(List<UnaryOperator<R>> functions) {
+      this.functions = functions;
+    }
+
+    @Override
+    public R apply(R resource) {
+      var pruned = resource;
+      for (UnaryOperator<R> function : functions) {
+        pruned = function.apply(pruned);
+      }
+      return pruned;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      return functions.equals(((All<?>) o).functions);
+    }
+
+    @Override
+    public int hashCode() {
+      return functions.hashCode();
+    }
+  }
+
+  private static class MetadataOnly<R extends HasMetadata> implements UnaryOperator<R> {
+    private static final Set<String> KEPT_PROPERTIES = Set.of("apiVersion", "kind", "metadata");
+    private final Map<Class<?>, List<AnnotatedMethod>> prunedPropertySetters =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public R apply(R resource) {
+      prunedPropertySetters
+          .computeIfAbsent(resource.getClass(), MetadataOnly::prunedPropertySetters)
+          .forEach(setter -> setter.setValue(resource, null));
+      return resource;
+    }
+
+    // the serialized properties of the resource, which can be set with a setter
+    private static List<AnnotatedMethod> prunedPropertySetters(Class<?> type) {
+      final var config = Serialization.jsonMapper().getSerializationConfig();
+      return config.introspect(config.constructType(type)).findProperties().stream()
+          .filter(property -> !KEPT_PROPERTIES.contains(property.getName()))
+          .map(BeanPropertyDefinition::getSetter)
+          .filter(setter -> setter != null && !setter.getRawParameterType(0).isPrimitive())
+          .collect(Collectors.toUnmodifiableList());
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the resources of an informer serialized and compressed, see
+ * {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#compressCache()}.
+ * <p>
+ * fabric8 5.x informers can't use another store, so resources are compressed from an index
+ * function, which the informer store calls on every resource it stores, and the stored instance is
+ * then pruned down to a shell holding only its metadata. The shells keep keys, label lookups and
+ * indexes working, while reads decode the full resources, with the most recently read ones kept
+ * decoded. Reads of a resource therefore return the same instance as long as it is kept decoded,
+ * which, as for the default store, must not be modified.
+ * </p>
+ */
+class CompressedResourceStore<T extends HasMetadata> {
+
+  static final String COMPRESSION_INDEX = "javaoperatorsdk.io/compressed-store";
+  static final int DEFAULT_DECODED_CACHE_SIZE = 256;
+
+  private final Class<T> resourceClass;
+  private final UnaryOperator<T> cachePruneFunction;
+  private final UnaryOperator<T> shellFunction = CachePruneFunctions.all(
+      CachePruneFunctions.metadataOnly(), CachePruneFunctions.managedFields(),
+      CachePruneFunctions.lastAppliedConfiguration());
+  private final ObjectMapper mapper = ConfigurationServiceProvider.instance().getObjectMapper();
+  private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+  // keyed by entry rather than by resource key so that updated resources are decoded again
+  private final Map<Entry<T>, T> decoded;
+
+  CompressedResourceStore(Class<T> resourceClass, UnaryOperator<T> cachePruneFunction) {
+    this(resourceClass, cachePruneFunction, DEFAULT_DECODED_CACHE_SIZE);
+  }
+
+  CompressedResourceStore(Class<T> resourceClass, UnaryOperator<T> cachePruneFunction,
+      int decodedCacheSize) {
+    this.resourceClass = resourceClass;
+    this.cachePruneFunction = cachePruneFunction;
+    this.decoded = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Entry<T>, T> eldest) {
+        return size() > decodedCacheSize;
+      }
+    });
+  }
+
+  /**
+   * Index function compressing the given resource, then pruning it down to a shell, unless it
+   * already is one. It never returns any index value.
+   */
+  List<String> compress(T resource) {
+    final var key = Cache.metaNamespaceKeyFunc(resource);
+    final var current = entries.get(key);
+    if (current != null && current.shell == resource) {
+      return List.of();
+    }
+    if (cachePruneFunction != null) {
+      cachePruneFunction.apply(resource);
+    }
+    if (current != null) {
+      // only the last two versions are kept to decode the old resource of update events
+      current.previous = null;
+    }
+    entries.put(key, new Entry<>(encode(resource), resource, current));
+    shellFunction.apply(resource);
+    return List.of();
+  }
+
+  /**
+   * Resolves a resource of the informer store, which must either be called while the store is
+   * locked, as index functions are, or for resources for which events are dispatched.
+   *
+   * @param cached a resource of the informer store
+   * @return the full resource if the given one is a shell, otherwise the given resource
+   */
+  T resolve(T cached) {
+    if (cached == null) {
+      return null;
+    }
+    final var entry = find(cached);
+    return entry != null ? decode(entry) : cached;
+  }
+
+  /**
+   * Reads resources of the informer store, holding the lock of the store only to find the entries
+   * of the read shells and decoding them once it is released.
+   *
+   * @param cache the informer store
+   * @param reader reads resources from the store
+   * @return the full resources
+   */
+  @SuppressWarnings("unchecked")
+  List<T> read(Cache<T> cache, Supplier<List<T>> reader) {
+    final List<Object> found;
+    synchronized (cache) {
+      found = reader.get().stream()
+          .map(resource -> {
+            final var entry = find(resource);
+            return entry != null ? entry : resource;
+          })
+          .collect(Collectors.toList());
+    }
+    return found.stream()
+        .map(o -> o instanceof Entry ? decode((Entry<T>) o) : (T) o)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Notifies that the update event of the specified resources was dispatched, so that the previous
+   * version of the resource doesn't need to be kept anymore.
+   */
+  void updateDispatched(T newResource) {
+    final var entry = find(newResource);
+    if (entry != null) {
+      entry.previous = null;
+    }
+  }
+
+  void remove(T shell) {
+    final var entry = entries.get(Cache.metaNamespaceKeyFunc(shell));
+    if (entry != null && entry.shell == shell) {
+      entries.remove(Cache.metaNamespaceKeyFunc(shell), entry);
+      decoded.remove(entry);
+    }
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  long compressedBytes() {
+    return entries.values().stream().mapToLong(entry -> entry.data.length).sum();
+  }
+
+  private Entry<T> find(T shell) {
+    var entry = entries.get(Cache.metaNamespaceKeyFunc(shell));
+    while (entry != null && entry.shell != shell) {
+      entry = entry.previous;
+    }
+    return entry;
+  }
+
+  private T decode(Entry<T> entry) {
+    var resource = decoded.get(entry);
+    if (resource == null) {
+      try (var in = new InflaterInputStream(new ByteArrayInputStream(entry.data))) {
+        resource = mapper.readValue(in, resourceClass);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      decoded.put(entry, resource);
+    }
+    return resource;
+  }
+
+  private byte[] encode(T resource) {
+    final var deflater = new Deflater(Deflater.BEST_SPEED);
+    final var bytes = new ByteArrayOutputStream();
+    try (var out = new DeflaterOutputStream(bytes, deflater)) {
+      mapper.writeValue(out, resource);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deflater.end();
+    }
+    return bytes.toByteArray();
+  }
+
+  private static class Entry<T> {
+    private final byte[] data;
+    private final T shell;
+    private volatile Entry<T> previous;
+
+    private Entry(byte[] data, T shell, Entry<T> previous) {
+      this.data = data;
+      this.shell = shell;
+      this.previous = previous;
+    }
+  }
+}
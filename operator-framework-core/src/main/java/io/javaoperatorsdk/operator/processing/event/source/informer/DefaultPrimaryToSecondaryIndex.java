@@ -7,46 +7,72 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 
+/**
+ * Index backed by concurrent maps holding the concurrent set of secondary resources of each
+ * primary, updated in place so that indexing a secondary resource takes constant time however many
+ * secondary resources its primaries have. Reads never block and return a copy of the secondary
+ * resources of a primary, writes only lock the entries of the resources they change. The primaries
+ * each secondary resource was last indexed for are recorded, so that secondary resources are
+ * removed from the primaries they aren't related to anymore when they are updated or deleted.
+ */
 class DefaultPrimaryToSecondaryIndex<R extends HasMetadata> implements PrimaryToSecondaryIndex<R> {
 
-  private SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper;
-  private Map<ResourceID, Set<ResourceID>> index = new HashMap<>();
+  private final SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper;
+  private final Map<ResourceID, Set<ResourceID>> index = new ConcurrentHashMap<>();
+  private final Map<ResourceID, Set<ResourceID>> primariesOfSecondary = new ConcurrentHashMap<>();
 
   public DefaultPrimaryToSecondaryIndex(SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper) {
     this.secondaryToPrimaryMapper = secondaryToPrimaryMapper;
   }
 
   @Override
-  public synchronized void onAddOrUpdate(R resource) {
-    Set<ResourceID> primaryResources = secondaryToPrimaryMapper.toPrimaryResourceIDs(resource);
-    primaryResources.forEach(
-        primaryResource -> {
-          var resourceSet =
-              index.computeIfAbsent(primaryResource, pr -> ConcurrentHashMap.newKeySet());
-          resourceSet.add(ResourceID.fromResource(resource));
-        });
+  public void onAddOrUpdate(R resource) {
+    final var primaryResources =
+        Set.copyOf(secondaryToPrimaryMapper.toPrimaryResourceIDs(resource));
+    // computing the entry of the secondary serializes the changes made for a same resource
+    primariesOfSecondary.compute(ResourceID.fromResource(resource), (secondary, previous) -> {
+      if (previous != null) {
+        previous.stream()
+            .filter(primary -> !primaryResources.contains(primary))
+            .forEach(primary -> removeFromIndex(primary, secondary));
+      }
+      primaryResources.stream()
+          .filter(primary -> previous == null || !previous.contains(primary))
+          .forEach(primary -> addToIndex(primary, secondary));
+      return primaryResources.isEmpty() ? null : primaryResources;
+    });
   }
 
   @Override
-  public synchronized void onDelete(R resource) {
-    Set<ResourceID> primaryResources = secondaryToPrimaryMapper.toPrimaryResourceIDs(resource);
-    primaryResources.forEach(
-        primaryResource -> {
-          var secondaryResources = index.get(primaryResource);
-          secondaryResources.remove(ResourceID.fromResource(resource));
-          if (secondaryResources.isEmpty()) {
-            index.remove(primaryResource);
-          }
+  public void onDelete(R resource) {
+    primariesOfSecondary.computeIfPresent(ResourceID.fromResource(resource),
+        (secondary, primaryResources) -> {
+          primaryResources.forEach(primary -> removeFromIndex(primary, secondary));
+          return null;
         });
   }
 
   @Override
-  public synchronized Set<ResourceID> getSecondaryResources(ResourceID primary) {
-    var resourceIDs = index.get(primary);
-    if (resourceIDs == null) {
-      return Collections.emptySet();
-    } else {
-      return Collections.unmodifiableSet(resourceIDs);
-    }
+  public Set<ResourceID> getSecondaryResources(ResourceID primary) {
+    final var secondaryResources = index.get(primary);
+    return secondaryResources == null ? Collections.emptySet() : Set.copyOf(secondaryResources);
+  }
+
+  private void addToIndex(ResourceID primary, ResourceID secondary) {
+    // computing the entry makes sure sets are not dropped while secondary resources are added
+    index.compute(primary, (id, secondaryResources) -> {
+      final var updated =
+          secondaryResources != null ? secondaryResources
+              : ConcurrentHashMap.<ResourceID>newKeySet();
+      updated.add(secondary);
+      return updated;
+    });
+  }
+
+  private void removeFromIndex(ResourceID primary, ResourceID secondary) {
+    index.computeIfPresent(primary, (id, secondaryResources) -> {
+      secondaryResources.remove(secondary);
+      return secondaryResources.isEmpty() ? null : secondaryResources;
+    });
   }
 }
@@ -0,0 +1,280 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Wraps an informer to dispatch its events to the handlers of the event sources using it, which can
+ * be registered and removed while the informer is running, unlike fabric8 5.x handlers.
+ */
+class DispatchingInformer<T extends HasMetadata> implements ResourceEventHandler<T> {
+
+  static final String CACHE_PRUNE_INDEX = "javaoperatorsdk.io/cache-prune";
+  private static final Logger log = LoggerFactory.getLogger(DispatchingInformer.class);
+
+  private final SharedIndexInformer<T> informer;
+  private final Cache<T> cache;
+  private final CompressedResourceStore<T> compressedStore;
+  private final List<ResourceEventHandler<T>> handlers = new CopyOnWriteArrayList<>();
+  private boolean running;
+
+  DispatchingInformer(SharedIndexInformer<T> informer, UnaryOperator<T> cachePruneFunction) {
+    this(informer, cachePruneFunction, false);
+  }
+
+  DispatchingInformer(SharedIndexInformer<T> informer, UnaryOperator<T> cachePruneFunction,
+      boolean compressCache) {
+    this.informer = informer;
+    this.cache = (Cache<T>) informer.getStore();
+    if (compressCache) {
+      // the prune function is applied by the compressed store, before compressing resources
+      compressedStore =
+          new CompressedResourceStore<>(informer.getApiTypeClass(), cachePruneFunction);
+      informer.getIndexer().addIndexers(
+          Map.of(CompressedResourceStore.COMPRESSION_INDEX, compressedStore::compress));
+    } else {
+      compressedStore = null;
+    }
+    if (cachePruneFunction != null && !compressCache) {
+      // fabric8 5.x informers cannot transform resources before storing them, but index functions
+      // are applied to every resource put in the store, including on relists, before listeners are
+      // notified. This index doesn't hold any entry.
+      informer.getIndexer().addIndexers(Map.of(CACHE_PRUNE_INDEX, resource -> {
+        if (cachePruneFunction.apply(resource) != resource) {
+          log.warn("Cache prune function returned another instance than the resource it was given,"
+              + " only changes made to the given resource are kept");
+        }
+        return List.of();
+      }));
+    }
+    informer.addEventHandler(this);
+  }
+
+  SharedIndexInformer<T> informer() {
+    return informer;
+  }
+
+  T getByKey(String key) {
+    if (compressedStore == null) {
+      return cache.getByKey(key);
+    }
+    final var found = compressedStore.read(cache, () -> {
+      final var resource = cache.getByKey(key);
+      return resource != null ? List.of(resource) : List.of();
+    });
+    return found.isEmpty() ? null : found.get(0);
+  }
+
+  List<T> list() {
+    return compressedStore == null ? cache.list() : compressedStore.read(cache, cache::list);
+  }
+
+  List<T> byIndex(String indexName, String indexKey) {
+    return compressedStore == null ? cache.byIndex(indexName, indexKey)
+        : compressedStore.read(cache, () -> cache.byIndex(indexName, indexKey));
+  }
+
+  T remove(String key) {
+    final var removed = getByKey(key);
+    final var shell = cache.remove(cache.getByKey(key));
+    if (compressedStore != null && shell != null) {
+      compressedStore.remove(shell);
+    }
+    return shell != null ? removed : null;
+  }
+
+  /**
+   * Wraps an index function so that it is applied to full resources, as resources are pruned once
+   * compressed, which might happen before other index functions are applied.
+   */
+  Function<T, List<String>> indexFunction(Function<T, List<String>> function) {
+    return compressedStore == null ? function
+        : resource -> function.apply(compressedStore.resolve(resource));
+  }
+
+  /**
+   * Adds the indexers unless the informer is running, as fabric8 5.x informers don't accept
+   * indexers once running.
+   *
+   * @return {@code true} if the indexers were added, or if there are none
+   */
+  synchronized boolean addIndexersIfNotRunning(Map<String, Function<T, List<String>>> indexers) {
+    if (indexers.isEmpty()) {
+      return true;
+    }
+    if (running) {
+      return false;
+    }
+    informer.getIndexer().addIndexers(indexers);
+    return true;
+  }
+
+  synchronized boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Registers the handler and runs the informer if it isn't running yet, otherwise notifies the
+   * handler of the resources already in the cache, as fabric8 does for handlers added to a running
+   * informer. The events dispatched while the cached resources are replayed are held back until the
+   * replay is done, so that the handler doesn't receive them before older resources.
+   */
+  synchronized void start(ResourceEventHandler<T> handler) {
+    if (running) {
+      if (handler != null) {
+        // registered before the cache is listed so that no event is missed in between
+        final var replaying = new ReplayingHandler(handler);
+        handlers.add(replaying);
+        replaying.replay(list());
+      }
+      return;
+    }
+    if (handler != null) {
+      handlers.add(handler);
+    }
+    try {
+      informer.run();
+      running = true;
+    } catch (RuntimeException e) {
+      handlers.remove(handler);
+      throw e;
+    }
+  }
+
+  synchronized void stop(ResourceEventHandler<T> handler) {
+    handlers.removeIf(registered -> registered == handler
+        || (registered instanceof DispatchingInformer.ReplayingHandler
+            && ((ReplayingHandler) registered).handler == handler));
+  }
+
+  synchronized void stop() {
+    handlers.clear();
+    informer.stop();
+    running = false;
+  }
+
+  @Override
+  public void onAdd(T obj) {
+    final var resource = resolve(obj);
+    for (ResourceEventHandler<T> handler : handlers) {
+      try {
+        handler.onAdd(resource);
+      } catch (RuntimeException e) {
+        log.error("Error handling add event of {}", ResourceID.fromResource(resource), e);
+      }
+    }
+  }
+
+  @Override
+  public void onUpdate(T oldObj, T newObj) {
+    final var oldResource = resolve(oldObj);
+    final var newResource = resolve(newObj);
+    for (ResourceEventHandler<T> handler : handlers) {
+      try {
+        handler.onUpdate(oldResource, newResource);
+      } catch (RuntimeException e) {
+        log.error("Error handling update event of {}", ResourceID.fromResource(newResource), e);
+      }
+    }
+    if (compressedStore != null) {
+      compressedStore.updateDispatched(newObj);
+    }
+  }
+
+  @Override
+  public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+    final var resource = resolve(obj);
+    for (ResourceEventHandler<T> handler : handlers) {
+      try {
+        handler.onDelete(resource, deletedFinalStateUnknown);
+      } catch (RuntimeException e) {
+        log.error("Error handling delete event of {}", ResourceID.fromResource(resource), e);
+      }
+    }
+    if (compressedStore != null) {
+      compressedStore.remove(obj);
+    }
+  }
+
+  private T resolve(T resource) {
+    return compressedStore != null ? compressedStore.resolve(resource) : resource;
+  }
+
+  /**
+   * Handler registered while the informer is running, queuing the events dispatched to it until the
+   * resources already in the cache are replayed.
+   */
+  private class ReplayingHandler implements ResourceEventHandler<T> {
+
+    private final ResourceEventHandler<T> handler;
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private boolean replaying = true;
+
+    private ReplayingHandler(ResourceEventHandler<T> handler) {
+      this.handler = handler;
+    }
+
+    private void replay(List<T> resources) {
+      try {
+        resources.forEach(handler::onAdd);
+      } finally {
+        // events queued meanwhile are run on this thread, in order, until none is left
+        Runnable next;
+        while ((next = nextPending()) != null) {
+          try {
+            next.run();
+          } catch (RuntimeException e) {
+            log.error("Error handling event held back during replay", e);
+          }
+        }
+      }
+    }
+
+    private synchronized Runnable nextPending() {
+      final var next = pending.poll();
+      if (next == null) {
+        replaying = false;
+      }
+      return next;
+    }
+
+    private void dispatch(Runnable event) {
+      synchronized (this) {
+        if (replaying) {
+          pending.add(event);
+          return;
+        }
+      }
+      event.run();
+    }
+
+    @Override
+    public void onAdd(T obj) {
+      dispatch(() -> handler.onAdd(obj));
+    }
+
+    @Override
+    public void onUpdate(T oldObj, T newObj) {
+      dispatch(() -> handler.onUpdate(oldObj, newObj));
+    }
+
+    @Override
+    public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+      dispatch(() -> handler.onDelete(obj, deletedFinalStateUnknown));
+    }
+  }
+}
@@ -2,6 +2,7 @@ package io.javaoperatorsdk.operator.processing.event.source.informer;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -144,11 +145,11 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
       eventRecorder.recordEvent(newObject);
       return;
     }
-    if (temporaryCacheHasResourceWithSameVersionAs(newObject)) {
+    if (temporaryCacheHasResourceWithSameVersionAs(resourceID, newObject)) {
       log.debug(
           "Skipping event propagation for {}, since was a result of a reconcile action. Resource ID: {}",
           operation,
-          ResourceID.fromResource(newObject));
+          resourceID);
       superOnOp.run();
     } else {
       superOnOp.run();
@@ -164,8 +165,7 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
     }
   }
 
-  private boolean temporaryCacheHasResourceWithSameVersionAs(R resource) {
-    var resourceID = ResourceID.fromResource(resource);
+  private boolean temporaryCacheHasResourceWithSameVersionAs(ResourceID resourceID, R resource) {
     var res = temporaryResourceCache.getResourceFromCache(resourceID);
     return res.map(r -> {
       boolean resVersionsEqual = r.getMetadata().getResourceVersion()
@@ -199,6 +199,30 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
 
   @Override
   public Set<R> getSecondaryResources(P primary) {
+    return getSecondaryResources(primary, this::get);
+  }
+
+  /**
+   * Retrieves the secondary resource associated with the specified primary like
+   * {@link #getSecondaryResource(Object)} but without copying it, see
+   * {@link #getUnsafe(ResourceID)}. The returned resource is shared with the informer cache and
+   * therefore <em>MUST NOT</em> be modified.
+   *
+   * @param primary the primary resource
+   * @return the associated secondary resource, if any, which must be treated as read-only
+   */
+  public Optional<R> getSecondaryResourceUnsafe(P primary) {
+    var resources = getSecondaryResources(primary, this::getUnsafe);
+    if (resources.isEmpty()) {
+      return Optional.empty();
+    } else if (resources.size() == 1) {
+      return Optional.of(resources.iterator().next());
+    } else {
+      throw new IllegalStateException("More than 1 secondary resource related to primary");
+    }
+  }
+
+  private Set<R> getSecondaryResources(P primary, Function<ResourceID, Optional<R>> getter) {
     Set<ResourceID> secondaryIDs;
     if (useSecondaryToPrimaryIndex()) {
       secondaryIDs =
@@ -206,7 +230,7 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
     } else {
       secondaryIDs = primaryToSecondaryMapper.toSecondaryResourceIDs(primary);
     }
-    return secondaryIDs.stream().map(this::get).flatMap(Optional::stream)
+    return secondaryIDs.stream().map(getter).flatMap(Optional::stream)
         .collect(Collectors.toSet());
   }
 
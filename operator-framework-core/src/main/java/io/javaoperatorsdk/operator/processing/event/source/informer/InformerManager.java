@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.OperationSupport;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.Cloner;
@@ -38,10 +39,21 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
   private MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client;
   private ResourceEventHandler<T> eventHandler;
   private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private InformerRegistry informerRegistry;
 
   @Override
   public void start() throws OperatorException {
-    sources.values().parallelStream().forEach(LifecycleAware::start);
+    sources.values().parallelStream().forEach(source -> source.start(informerRegistry));
+  }
+
+  /**
+   * Sets the registry through which informers are shared with the other event sources of the
+   * operator, must be called before this manager is started.
+   *
+   * @param informerRegistry the registry of the operator
+   */
+  void setInformerRegistry(InformerRegistry informerRegistry) {
+    this.informerRegistry = informerRegistry;
   }
 
   void initSources(MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
@@ -85,7 +97,7 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
                 client.inNamespace(ns).withLabelSelector(configuration.getLabelSelector()),
                 eventHandler, ns);
         source.addIndexers(this.indexers);
-        source.start();
+        source.start(informerRegistry);
         log.debug("Registered new {} -> {} for namespace: {}", this, source,
             ns);
       }
@@ -97,7 +109,21 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
   private InformerWrapper<T> createEventSource(
       FilterWatchListDeletable<T, KubernetesResourceList<T>> filteredBySelectorClient,
       ResourceEventHandler<T> eventHandler, String key) {
-    var source = new InformerWrapper<>(filteredBySelectorClient.runnableInformer(0));
+    final var cachePruneFunction = configuration.cachePruneFunction().orElse(null);
+    final var compressCache = configuration.compressCache();
+    final InformerWrapper<T> source;
+    if (ConfigurationServiceProvider.instance().shareInformers()) {
+      // clients are compared by configuration so that informers are only shared on the same cluster
+      final Object clientKey =
+          client instanceof OperationSupport ? ((OperationSupport) client).getConfig() : client;
+      source = InformerWrapper.shared(
+          InformerRegistry.key(clientKey, configuration.getResourceClass(), key,
+              configuration.getLabelSelector(), cachePruneFunction, compressCache),
+          filteredBySelectorClient.runnableInformer(0), cachePruneFunction, compressCache);
+    } else {
+      source = new InformerWrapper<>(filteredBySelectorClient.runnableInformer(0),
+          cachePruneFunction, compressCache);
+    }
     source.addEventHandler(eventHandler);
     sources.put(key, source);
     return source;
@@ -138,9 +164,13 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
 
   @Override
   public Optional<T> get(ResourceID resourceID) {
+    return getUnsafe(resourceID).map(cloner::clone);
+  }
+
+  @Override
+  public Optional<T> getUnsafe(ResourceID resourceID) {
     return getSource(resourceID.getNamespace().orElse(ALL_NAMESPACES_MAP_KEY))
-        .flatMap(source -> source.get(resourceID))
-        .map(cloner::clone);
+        .flatMap(source -> source.get(resourceID));
   }
 
   @Override
@@ -0,0 +1,98 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Informers shared by the event sources of an operator, see
+ * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#shareInformers()}. Informers
+ * are reference counted and stopped once no event source uses them anymore, or when the registry is
+ * stopped.
+ */
+public class InformerRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(InformerRegistry.class);
+
+  private final Map<List<Object>, Registration> registrations = new HashMap<>();
+  private final Map<DispatchingInformer<?>, Registration> byInformer = new HashMap<>();
+
+  /**
+   * Returns the informer registered with the specified key, creating it if needed.
+   *
+   * @param key identifies the watched resources, e.g. client, resource type, namespace and label
+   *        selector, components can be {@code null}
+   * @param informerFactory creates the informer if none is registered with the key
+   * @param <T> the type of the watched resources
+   * @return the shared informer, which must be {@link #release(DispatchingInformer) released} once
+   *         not used anymore
+   */
+  @SuppressWarnings("unchecked")
+  synchronized <T extends HasMetadata> DispatchingInformer<T> acquire(List<Object> key,
+      Supplier<DispatchingInformer<T>> informerFactory) {
+    final var registration = registrations.computeIfAbsent(key, k -> {
+      final var created = new Registration(k, informerFactory.get());
+      byInformer.put(created.informer, created);
+      return created;
+    });
+    registration.users++;
+    log.debug("Informer for {} acquired, used by {} event source(s)", key, registration.users);
+    return (DispatchingInformer<T>) registration.informer;
+  }
+
+  synchronized void release(DispatchingInformer<?> informer) {
+    final var registration = byInformer.get(informer);
+    if (registration == null) {
+      return;
+    }
+    if (--registration.users == 0) {
+      registrations.remove(registration.key);
+      byInformer.remove(informer);
+      log.debug("Stopping informer for {}, not used anymore", registration.key);
+      informer.stop();
+    }
+  }
+
+  synchronized int usersOf(DispatchingInformer<?> informer) {
+    final var registration = byInformer.get(informer);
+    return registration != null ? registration.users : 0;
+  }
+
+  /**
+   * Stops the informers still registered, e.g. if event sources failed to stop.
+   */
+  public synchronized void stop() {
+    byInformer.keySet().forEach(informer -> {
+      try {
+        informer.stop();
+      } catch (Exception e) {
+        log.warn("Error stopping informer", e);
+      }
+    });
+    byInformer.clear();
+    registrations.clear();
+  }
+
+  static List<Object> key(Object... components) {
+    // unlike List.of, allows null components
+    return Arrays.asList(components);
+  }
+
+  private static class Registration {
+    private final List<Object> key;
+    private final DispatchingInformer<?> informer;
+    private int users;
+
+    private Registration(List<Object> key, DispatchingInformer<?> informer) {
+      this.key = key;
+      this.informer = informer;
+    }
+  }
+}
@@ -1,13 +1,19 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
@@ -22,33 +28,112 @@ import io.javaoperatorsdk.operator.processing.event.source.UpdatableCache;
 class InformerWrapper<T extends HasMetadata>
     implements LifecycleAware, IndexerResourceCache<T>, UpdatableCache<T> {
 
-  private final SharedIndexInformer<T> informer;
-  private final Cache<T> cache;
+  private static final Logger log = LoggerFactory.getLogger(InformerWrapper.class);
+  private static final AtomicInteger indexPrefixes = new AtomicInteger();
+
+  // identifies the informers this wrapper can share with other event sources, null if it can't
+  private final List<Object> key;
+  // indexes are prefixed so that event sources sharing an informer don't see each other's indexes
+  private final String indexPrefix = indexPrefixes.incrementAndGet() + "/";
+  // indexers added to this wrapper, so that they can be added to the informer it ends up using
+  private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private DispatchingInformer<T> informer;
+  private Cache<T> cache;
+  // registry the informer was acquired from, null if the informer is not shared
+  private InformerRegistry registry;
+  private ResourceEventHandler<T> eventHandler;
+  private boolean released;
 
   public InformerWrapper(SharedIndexInformer<T> informer) {
+    this(informer, null);
+  }
+
+  public InformerWrapper(SharedIndexInformer<T> informer, UnaryOperator<T> cachePruneFunction) {
+    this(informer, cachePruneFunction, false);
+  }
+
+  public InformerWrapper(SharedIndexInformer<T> informer, UnaryOperator<T> cachePruneFunction,
+      boolean compressCache) {
+    this(null, new DispatchingInformer<>(informer, cachePruneFunction, compressCache));
+  }
+
+  private InformerWrapper(List<Object> key, DispatchingInformer<T> informer) {
+    this.key = key;
+    setInformer(informer);
+  }
+
+  /**
+   * Creates a wrapper which, when started with an {@link InformerRegistry}, uses the informer
+   * registered with the specified key, so that it is shared with the other event sources watching
+   * the same resources. Until then, and if no registry is given, the wrapper uses its own informer,
+   * which is then registered with the key if no informer is registered yet.
+   */
+  static <T extends HasMetadata> InformerWrapper<T> shared(List<Object> key,
+      SharedIndexInformer<T> informer, UnaryOperator<T> cachePruneFunction,
+      boolean compressCache) {
+    return new InformerWrapper<>(key,
+        new DispatchingInformer<>(informer, cachePruneFunction, compressCache));
+  }
+
+  private void setInformer(DispatchingInformer<T> informer) {
     this.informer = informer;
-    this.cache = (Cache<T>) informer.getStore();
+    this.cache = (Cache<T>) informer.informer().getStore();
   }
 
   @Override
   public void start() throws OperatorException {
+    start(null);
+  }
+
+  /**
+   * Starts the informer, sharing it through the specified registry if this wrapper can share its
+   * informer.
+   *
+   * @param registry the registry holding the shared informers, {@code null} if informers are not
+   *        shared
+   */
+  void start(InformerRegistry registry) throws OperatorException {
+    if (key != null && registry != null && this.registry == null) {
+      useSharedInformer(registry);
+    }
     try {
-      informer.run();
+      informer.start(eventHandler);
     } catch (Exception e) {
       ReconcilerUtils.handleKubernetesClientException(e,
-          HasMetadata.getFullResourceName(informer.getApiTypeClass()));
+          HasMetadata.getFullResourceName(informer.informer().getApiTypeClass()));
       throw e;
     }
   }
 
+  private void useSharedInformer(InformerRegistry registry) {
+    final var own = informer;
+    final DispatchingInformer<T> shared = registry.acquire(key, () -> own);
+    if (shared != own && !shared.addIndexersIfNotRunning(prefixedIndexers(indexers, shared))) {
+      // indexes can't be added to a running informer, so this wrapper keeps its own informer,
+      // which already has all the indexes added so far
+      log.info("Informer for {} already started by another event source, using a dedicated"
+          + " informer to add indexes", own.informer().getApiTypeClass().getSimpleName());
+      registry.release(shared);
+      return;
+    }
+    setInformer(shared);
+    this.registry = registry;
+  }
+
   @Override
   public void stop() throws OperatorException {
-    informer.stop();
+    if (registry == null) {
+      informer.stop();
+    } else if (!released) {
+      informer.stop(eventHandler);
+      registry.release(informer);
+      released = true;
+    }
   }
 
   @Override
   public Optional<T> get(ResourceID resourceID) {
-    return Optional.ofNullable(cache.getByKey(getKey(resourceID)));
+    return Optional.ofNullable(informer.getByKey(getKey(resourceID)));
   }
 
   private String getKey(ResourceID resourceID) {
@@ -57,12 +142,12 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public Stream<T> list(Predicate<T> predicate) {
-    return cache.list().stream().filter(predicate);
+    return informer.list().stream().filter(predicate);
   }
 
   @Override
   public Stream<T> list(String namespace, Predicate<T> predicate) {
-    final var stream = cache.list().stream()
+    final var stream = informer.list().stream()
         .filter(r -> namespace.equals(r.getMetadata().getNamespace()));
     return predicate != null ? stream.filter(predicate) : stream;
   }
@@ -74,7 +159,7 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public T remove(ResourceID key) {
-    return cache.remove(cache.getByKey(getKey(key)));
+    return informer.remove(getKey(key));
   }
 
   @Override
@@ -88,17 +173,32 @@ class InformerWrapper<T extends HasMetadata>
     cache.put(resource);
   }
 
+  /**
+   * Sets the handler notified of the events of the informer once this wrapper is started.
+   */
   public void addEventHandler(ResourceEventHandler<T> eventHandler) {
-    informer.addEventHandler(eventHandler);
+    this.eventHandler = eventHandler;
   }
 
   @Override
   public void addIndexers(Map<String, Function<T, List<String>>> indexers) {
-    informer.getIndexer().addIndexers(indexers);
+    if (indexers.isEmpty()) {
+      return;
+    }
+    this.indexers.putAll(indexers);
+    informer.informer().getIndexer().addIndexers(prefixedIndexers(indexers, informer));
+  }
+
+  private Map<String, Function<T, List<String>>> prefixedIndexers(
+      Map<String, Function<T, List<String>>> indexers, DispatchingInformer<T> target) {
+    final var prefixed = new HashMap<String, Function<T, List<String>>>(indexers.size());
+    indexers.forEach(
+        (name, function) -> prefixed.put(indexPrefix + name, target.indexFunction(function)));
+    return prefixed;
   }
 
   @Override
   public List<T> byIndex(String indexName, String indexKey) {
-    return informer.getIndexer().byIndex(indexName, indexKey);
+    return informer.byIndex(indexPrefix + indexName, indexKey);
   }
 }
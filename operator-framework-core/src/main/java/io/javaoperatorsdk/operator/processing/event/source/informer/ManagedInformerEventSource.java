@@ -36,6 +36,8 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
   protected ManagedInformerEventSource(
       MixedOperation<R, KubernetesResourceList<R>, Resource<R>> client, C configuration) {
     super(configuration.getResourceClass());
+    configuration.cachePruneFunction().ifPresent(cachePruneFunction -> temporaryResourceCache =
+        new TemporaryResourceCache<>(this, cachePruneFunction));
     manager().initSources(client, configuration, this);
   }
 
@@ -65,6 +67,18 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     }
   }
 
+  /**
+   * Shares the informers of this event source with the other event sources using the specified
+   * registry, if informers are shared, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#shareInformers()}. Must be
+   * called before this event source is started.
+   *
+   * @param informerRegistry the registry of the operator
+   */
+  public void setInformerRegistry(InformerRegistry informerRegistry) {
+    manager().setInformerRegistry(informerRegistry);
+  }
+
   @Override
   public void start() {
     manager().start();
@@ -91,6 +105,16 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
 
   @Override
   public Optional<R> get(ResourceID resourceID) {
+    return get(resourceID, cache::get);
+  }
+
+  @Override
+  public Optional<R> getUnsafe(ResourceID resourceID) {
+    return get(resourceID, cache::getUnsafe);
+  }
+
+  private Optional<R> get(ResourceID resourceID,
+      Function<ResourceID, Optional<R>> informerCacheGetter) {
     Optional<R> resource = temporaryResourceCache.getResourceFromCache(resourceID);
     if (resource.isPresent()) {
       log.debug("Resource found in temporal cache for Resource ID: {}", resourceID);
@@ -98,7 +122,7 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     } else {
       log.debug("Resource not found in temporal cache reading it from informer cache," +
           " for Resource ID: {}", resourceID);
-      return cache.get(resourceID);
+      return informerCacheGetter.apply(resourceID);
     }
   }
 
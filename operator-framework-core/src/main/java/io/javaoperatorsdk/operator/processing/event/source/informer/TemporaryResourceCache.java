@@ -3,11 +3,13 @@ package io.javaoperatorsdk.operator.processing.event.source.informer;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
@@ -36,9 +38,16 @@ public class TemporaryResourceCache<T extends HasMetadata> {
 
   private final Map<ResourceID, T> cache = new ConcurrentHashMap<>();
   private final ManagedInformerEventSource<T, ?, ?> managedInformerEventSource;
+  private final UnaryOperator<T> cachePruneFunction;
 
   public TemporaryResourceCache(ManagedInformerEventSource<T, ?, ?> managedInformerEventSource) {
+    this(managedInformerEventSource, null);
+  }
+
+  public TemporaryResourceCache(ManagedInformerEventSource<T, ?, ?> managedInformerEventSource,
+      UnaryOperator<T> cachePruneFunction) {
     this.managedInformerEventSource = managedInformerEventSource;
+    this.cachePruneFunction = cachePruneFunction;
   }
 
   public synchronized void removeResourceFromCache(T resource) {
@@ -46,14 +55,14 @@ public class TemporaryResourceCache<T extends HasMetadata> {
   }
 
   public synchronized void unconditionallyCacheResource(T newResource) {
-    cache.put(ResourceID.fromResource(newResource), newResource);
+    cache.put(ResourceID.fromResource(newResource), pruned(newResource));
   }
 
   public synchronized void putAddedResource(T newResource) {
     ResourceID resourceID = ResourceID.fromResource(newResource);
-    if (managedInformerEventSource.get(resourceID).isEmpty()) {
+    if (managedInformerEventSource.getUnsafe(resourceID).isEmpty()) {
       log.debug("Putting resource to cache with ID: {}", resourceID);
-      cache.put(resourceID, newResource);
+      cache.put(resourceID, pruned(newResource));
     } else {
       log.debug("Won't put resource into cache found already informer cache: {}", resourceID);
     }
@@ -61,7 +70,7 @@ public class TemporaryResourceCache<T extends HasMetadata> {
 
   public synchronized void putUpdatedResource(T newResource, String previousResourceVersion) {
     var resourceId = ResourceID.fromResource(newResource);
-    var informerCacheResource = managedInformerEventSource.get(resourceId);
+    var informerCacheResource = managedInformerEventSource.getUnsafe(resourceId);
     if (informerCacheResource.isEmpty()) {
       log.debug("No cached value present for resource: {}", newResource);
       return;
@@ -70,7 +79,7 @@ public class TemporaryResourceCache<T extends HasMetadata> {
     if (informerCacheResource.get().getMetadata().getResourceVersion()
         .equals(previousResourceVersion)) {
       log.debug("Putting resource to temporal cache with id: {}", resourceId);
-      cache.put(resourceId, newResource);
+      cache.put(resourceId, pruned(newResource));
     } else {
       // if something is in cache it's surely obsolete now
       log.debug("Trying to remove an obsolete resource from cache for id: {}", resourceId);
@@ -78,6 +87,17 @@ public class TemporaryResourceCache<T extends HasMetadata> {
     }
   }
 
+  // resources are pruned like the ones of the informer cache so that both caches return resources
+  // of the same shape, on a copy since the resource is also returned to the code which updated it
+  private T pruned(T resource) {
+    if (cachePruneFunction == null) {
+      return resource;
+    }
+    final var copy = ConfigurationServiceProvider.instance().getResourceCloner().clone(resource);
+    cachePruneFunction.apply(copy);
+    return copy;
+  }
+
   public synchronized Optional<T> getResourceFromCache(ResourceID resourceID) {
     return Optional.ofNullable(cache.get(resourceID));
   }
@@ -1,7 +1,12 @@
 package io.javaoperatorsdk.operator.processing.event.source.polling;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.slf4j.Logger;
@@ -9,6 +14,9 @@ import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
+import io.javaoperatorsdk.operator.api.config.ExecutorServiceManager;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.Cache;
 import io.javaoperatorsdk.operator.processing.event.source.CacheKeyMapper;
@@ -21,6 +29,18 @@ import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
  * if there is no registerPredicate provided. If register predicate provided it is evaluated on
  * resource create and/or update to register polling for the event source.
  * <p>
+ * Polls are scheduled on a {@link ScheduledExecutorService} which also performs the fetches, by
+ * default the one shared by all polling event sources provided by
+ * {@link ExecutorServiceManager#pollingExecutorService()}, so that a slow fetch only holds one of
+ * its threads instead of delaying every other poll. The next poll of a resource is scheduled once
+ * the current one is finished, after the period plus or minus a random jitter so that polls of
+ * resources registered at the same time spread out over time while being, on average, one period
+ * apart. The lag of each poll is reported using {@link Metrics#pollingLag(String, Duration)}.
+ * <p>
+ * If the provided fetcher is a {@link BatchResourceFetcher}, the primary resources which polls are
+ * due within a batch window are collected and their resources fetched in batches, resulting in one
+ * call per batch instead of one call per primary resource.
+ * <p>
  * For other behavior see {@link ExternalResourceCachingEventSource}
  *
  * @param <R> the resource polled by the event source
@@ -32,12 +52,27 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata>
 
   private static final Logger log = LoggerFactory.getLogger(PerResourcePollingEventSource.class);
 
-  private final Timer timer = new Timer();
-  private final Map<ResourceID, TimerTask> timerTasks = new ConcurrentHashMap<>();
+  /**
+   * The default maximum fraction of the period by which polls are brought forward
+   */
+  public static final double DEFAULT_JITTER = 0.1;
+  /**
+   * The default maximum number of primary resources passed to a {@link BatchResourceFetcher} call
+   */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  private final Map<ResourceID, ScheduledFuture<?>> scheduledPolls = new ConcurrentHashMap<>();
   private final ResourceFetcher<R, P> resourceFetcher;
   private final Cache<P> resourceCache;
   private final Predicate<P> registerPredicate;
   private final long period;
+  private final ScheduledExecutorService executorService;
+  private final double jitter;
+  private final Metrics metrics;
+  private final int batchSize;
+  private final long batchWindow;
+  private final List<ResourceID> pendingBatch = new ArrayList<>();
+  private boolean batchFlushScheduled;
   private final Set<ResourceID> fetchedForPrimaries = ConcurrentHashMap.newKeySet();
 
   public PerResourcePollingEventSource(ResourceFetcher<R, P> resourceFetcher,
@@ -56,17 +91,91 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata>
       Cache<P> resourceCache, long period,
       Predicate<P> registerPredicate, Class<R> resourceClass,
       CacheKeyMapper<R> cacheKeyMapper) {
+    this(resourceFetcher, resourceCache, period, registerPredicate, resourceClass, cacheKeyMapper,
+        null, DEFAULT_JITTER);
+  }
+
+  /**
+   * @param resourceFetcher fetches the resources associated with a primary resource
+   * @param resourceCache the cache of primary resources
+   * @param period the polling period in milliseconds
+   * @param registerPredicate an optional predicate deciding whether a primary resource is polled
+   * @param resourceClass the class of the polled resource
+   * @param cacheKeyMapper maps polled resources to cache keys
+   * @param executorService the {@link ScheduledExecutorService} scheduling and performing the
+   *        fetches, the shared {@link ExecutorServiceManager#pollingExecutorService()} if
+   *        {@code null}. A provided executor service is not shut down when this event source stops.
+   * @param jitter the fraction of the period, between 0 (included) and 1 (excluded), over which
+   *        polls are randomly spread around the period, each poll being delayed or brought forward
+   *        by up to half of it
+   */
+  public PerResourcePollingEventSource(ResourceFetcher<R, P> resourceFetcher,
+      Cache<P> resourceCache, long period,
+      Predicate<P> registerPredicate, Class<R> resourceClass,
+      CacheKeyMapper<R> cacheKeyMapper, ScheduledExecutorService executorService,
+      double jitter) {
+    this(resourceFetcher, resourceCache, period, registerPredicate, resourceClass, cacheKeyMapper,
+        executorService, jitter, DEFAULT_BATCH_SIZE, (long) (period * jitter));
+  }
+
+  /**
+   * @param resourceFetcher fetches the resources associated with batches of primary resources
+   * @param resourceCache the cache of primary resources
+   * @param period the polling period in milliseconds
+   * @param registerPredicate an optional predicate deciding whether a primary resource is polled
+   * @param resourceClass the class of the polled resource
+   * @param cacheKeyMapper maps polled resources to cache keys
+   * @param executorService the {@link ScheduledExecutorService} scheduling and performing the
+   *        fetches, the shared {@link ExecutorServiceManager#pollingExecutorService()} if
+   *        {@code null}. A provided executor service is not shut down when this event source stops.
+   * @param jitter the fraction of the period, between 0 (included) and 1 (excluded), over which
+   *        polls are randomly spread around the period, each poll being delayed or brought forward
+   *        by up to half of it
+   * @param batchSize the maximum number of primary resources fetched by a single call
+   * @param batchWindow the time in milliseconds during which primary resources whose polls are due
+   *        are collected before being fetched, defaults to the jitter span of the period with the
+   *        other constructors
+   */
+  public PerResourcePollingEventSource(BatchResourceFetcher<R, P> resourceFetcher,
+      Cache<P> resourceCache, long period,
+      Predicate<P> registerPredicate, Class<R> resourceClass,
+      CacheKeyMapper<R> cacheKeyMapper, ScheduledExecutorService executorService,
+      double jitter, int batchSize, long batchWindow) {
+    this((ResourceFetcher<R, P>) resourceFetcher, resourceCache, period, registerPredicate,
+        resourceClass, cacheKeyMapper, executorService, jitter, batchSize, batchWindow);
+  }
+
+  private PerResourcePollingEventSource(ResourceFetcher<R, P> resourceFetcher,
+      Cache<P> resourceCache, long period,
+      Predicate<P> registerPredicate, Class<R> resourceClass,
+      CacheKeyMapper<R> cacheKeyMapper, ScheduledExecutorService executorService,
+      double jitter, int batchSize, long batchWindow) {
     super(resourceClass, cacheKeyMapper);
+    if (jitter < 0 || jitter >= 1) {
+      throw new IllegalArgumentException(
+          "Jitter must be between 0 (included) and 1 (excluded), was: " + jitter);
+    }
+    if (batchSize <= 0 || batchWindow < 0) {
+      throw new IllegalArgumentException("Batch size must be positive and batch window must not "
+          + "be negative, were: " + batchSize + " and " + batchWindow);
+    }
     this.resourceFetcher = resourceFetcher;
     this.resourceCache = resourceCache;
     this.period = period;
     this.registerPredicate = registerPredicate;
+    this.executorService = executorService;
+    this.jitter = jitter;
+    this.batchSize = batchSize;
+    this.batchWindow = batchWindow;
+    this.metrics = Optional.ofNullable(ConfigurationServiceProvider.instance().getMetrics())
+        .orElse(Metrics.NOOP);
   }
 
   private Set<R> getAndCacheResource(P primary, boolean fromGetter) {
     var values = resourceFetcher.fetchResources(primary);
-    handleResources(ResourceID.fromResource(primary), values, !fromGetter);
-    fetchedForPrimaries.add(ResourceID.fromResource(primary));
+    final var primaryID = ResourceID.fromResource(primary);
+    handleResources(primaryID, values, !fromGetter);
+    fetchedForPrimaries.add(primaryID);
     return values;
   }
 
@@ -83,10 +192,10 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata>
   @Override
   public void onResourceDeleted(P resource) {
     var resourceID = ResourceID.fromResource(resource);
-    TimerTask task = timerTasks.remove(resourceID);
-    if (task != null) {
-      log.debug("Canceling task for resource: {}", resource);
-      task.cancel();
+    var scheduledPoll = scheduledPolls.remove(resourceID);
+    if (scheduledPoll != null) {
+      log.debug("Canceling polling for resource: {}", resource);
+      scheduledPoll.cancel(false);
     }
     handleDelete(resourceID);
     fetchedForPrimaries.remove(resourceID);
@@ -95,32 +204,115 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata>
   // This method is always called from the same Thread for the same resource,
   // since events from ResourceEventAware are propagated from the thread of the informer. This is
   // important
-  // because otherwise there will be a race condition related to the timerTasks.
+  // because otherwise there will be a race condition related to the scheduled polls.
   private void checkAndRegisterTask(P resource) {
     var primaryID = ResourceID.fromResource(resource);
-    if (timerTasks.get(primaryID) == null && (registerPredicate == null
+    if (scheduledPolls.get(primaryID) == null && (registerPredicate == null
         || registerPredicate.test(resource))) {
-      var task =
-          new TimerTask() {
-            @Override
-            public void run() {
-              if (!isRunning()) {
-                log.debug("Event source not yet started. Will not run for: {}", primaryID);
-                return;
-              }
-              // always use up-to-date resource from cache
-              var res = resourceCache.get(primaryID);
-              res.ifPresentOrElse(p -> getAndCacheResource(p, false),
-                  () -> log.warn("No resource in cache for resource ID: {}", primaryID));
-            }
-          };
-      timerTasks.put(primaryID, task);
       // there is a delay, to not do two fetches when the resources first appeared
       // and getSecondaryResource is called on reconciliation.
-      timer.schedule(task, period, period);
+      scheduledPolls.computeIfAbsent(primaryID, this::schedulePoll);
+    }
+  }
+
+  private ScheduledFuture<?> schedulePoll(ResourceID primaryID) {
+    final var delay = jitteredDelay(period, jitter, ThreadLocalRandom.current().nextDouble());
+    final var dueAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+    return executorService().schedule(() -> poll(primaryID, dueAt), delay,
+        TimeUnit.MILLISECONDS);
+  }
+
+  // spreads the delays evenly around the period given a random number between 0 (included) and 1
+  // (excluded), so that jitter doesn't change the average rate of polls
+  static long jitteredDelay(long period, double jitter, double random) {
+    return period + Math.round((random - 0.5) * jitter * period);
+  }
+
+  private void poll(ResourceID primaryID, long dueAt) {
+    if (!isRunning()) {
+      log.debug("Event source not yet started. Will not run for: {}", primaryID);
+      scheduleNextPoll(primaryID);
+      return;
+    }
+    metrics.pollingLag(resourceType().getSimpleName(),
+        Duration.ofNanos(Math.max(0, System.nanoTime() - dueAt)));
+    if (resourceFetcher instanceof BatchResourceFetcher) {
+      addToBatch(primaryID);
+      return;
+    }
+    try {
+      // always use up-to-date resource from cache
+      var res = resourceCache.get(primaryID);
+      res.ifPresentOrElse(p -> getAndCacheResource(p, false),
+          () -> log.warn("No resource in cache for resource ID: {}", primaryID));
+    } catch (RuntimeException e) {
+      log.error("Error polling resources for resource ID: {}", primaryID, e);
+    } finally {
+      scheduleNextPoll(primaryID);
+    }
+  }
+
+  private void scheduleNextPoll(ResourceID primaryID) {
+    // only schedule the next poll if the resource wasn't deleted in the meantime
+    scheduledPolls.computeIfPresent(primaryID, (id, current) -> schedulePoll(id));
+  }
+
+  private void addToBatch(ResourceID primaryID) {
+    synchronized (pendingBatch) {
+      pendingBatch.add(primaryID);
+      if (!batchFlushScheduled) {
+        batchFlushScheduled = true;
+        executorService().schedule(this::flushBatch, batchWindow, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void flushBatch() {
+    final List<ResourceID> due;
+    synchronized (pendingBatch) {
+      due = new ArrayList<>(pendingBatch);
+      pendingBatch.clear();
+      batchFlushScheduled = false;
+    }
+    for (int i = 0; i < due.size(); i += batchSize) {
+      final var batch = due.subList(i, Math.min(i + batchSize, due.size()));
+      executorService().execute(() -> fetchBatch(batch));
     }
   }
 
+  private void fetchBatch(List<ResourceID> primaryIDs) {
+    try {
+      final var primaries = new ArrayList<P>(primaryIDs.size());
+      // always use up-to-date resources from cache
+      primaryIDs.forEach(primaryID -> resourceCache.get(primaryID).ifPresentOrElse(primaries::add,
+          () -> log.warn("No resource in cache for resource ID: {}", primaryID)));
+      if (primaries.isEmpty()) {
+        return;
+      }
+      log.debug("Fetching resources for a batch of {} primary resources", primaries.size());
+      final var fetched =
+          ((BatchResourceFetcher<R, P>) resourceFetcher).fetchResources(primaries);
+      primaries.forEach(primary -> {
+        final var primaryID = ResourceID.fromResource(primary);
+        // don't cache resources of primaries deleted while fetching
+        if (scheduledPolls.containsKey(primaryID)) {
+          handleResources(primaryID, fetched.getOrDefault(primaryID, Collections.emptySet()),
+              true);
+          fetchedForPrimaries.add(primaryID);
+        }
+      });
+    } catch (RuntimeException e) {
+      log.error("Error polling resources for batch of resource IDs: {}", primaryIDs, e);
+    } finally {
+      primaryIDs.forEach(this::scheduleNextPoll);
+    }
+  }
+
+  private ScheduledExecutorService executorService() {
+    return executorService != null ? executorService
+        : ExecutorServiceManager.instance().pollingExecutorService();
+  }
+
   /**
    * When this event source is queried for the resource, it might not be fully "synced". Thus, the
    * cache might not be propagated, therefore the supplier is checked for the resource too.
@@ -147,9 +339,39 @@ public class PerResourcePollingEventSource<R, P extends HasMetadata>
     Set<R> fetchResources(P primaryResource);
   }
 
+  /**
+   * A {@link ResourceFetcher} able to fetch the resources associated with several primary resources
+   * at once, e.g. using a bulk lookup of an external API.
+   *
+   * @param <R> the resource polled by the event source
+   * @param <P> related custom resource
+   */
+  public interface BatchResourceFetcher<R, P extends HasMetadata> extends ResourceFetcher<R, P> {
+
+    /**
+     * Fetches the resources associated with the specified primary resources.
+     *
+     * @param primaryResources the primary resources to fetch the associated resources of
+     * @return the fetched resources, by {@link ResourceID} of their primary resource. Primary
+     *         resources missing from the returned map are considered to have no associated
+     *         resources.
+     */
+    Map<ResourceID, Set<R>> fetchResources(Collection<P> primaryResources);
+
+    @Override
+    default Set<R> fetchResources(P primaryResource) {
+      return fetchResources(List.of(primaryResource))
+          .getOrDefault(ResourceID.fromResource(primaryResource), Collections.emptySet());
+    }
+  }
+
   @Override
   public void stop() throws OperatorException {
     super.stop();
-    timer.cancel();
+    scheduledPolls.values().forEach(scheduledPoll -> scheduledPoll.cancel(false));
+    scheduledPolls.clear();
+    synchronized (pendingBatch) {
+      pendingBatch.clear();
+    }
   }
 }
@@ -0,0 +1,22 @@
+package io.javaoperatorsdk.operator.processing.event.source.timer;
+
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Event produced by a {@link TimerEventSource} when the delay scheduled for a resource elapsed,
+ * i.e. to re-schedule or retry its reconciliation.
+ */
+public class TimerEvent extends Event {
+
+  public TimerEvent(ResourceID targetCustomResource) {
+    super(targetCustomResource);
+  }
+
+  @Override
+  public String toString() {
+    return "TimerEvent{" +
+        "relatedCustomResource=" + getRelatedCustomResourceID() +
+        '}';
+  }
+}
@@ -1,44 +1,91 @@
 package io.javaoperatorsdk.operator.processing.event.source.timer;
 
 import java.util.Map;
-import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.javaoperatorsdk.operator.processing.event.Event;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
 
+/**
+ * Produces a {@link TimerEvent} for a resource after a given delay. Only one schedule is kept per
+ * resource: scheduling again replaces the previous schedule.
+ * <p>
+ * Schedules are executed by a single thread backed by a {@link ScheduledThreadPoolExecutor} which
+ * removes cancelled tasks immediately so that they don't pile up. Moreover, pushing back the
+ * schedule of a resource, which is what typically happens when a reconciliation is re-scheduled
+ * after each execution, doesn't touch the underlying scheduler: the new deadline is recorded and
+ * the task re-arms itself for the remaining time when it fires.
+ *
+ * @param <R> the resource type
+ */
 public class TimerEventSource<R extends HasMetadata>
     extends AbstractEventSource
     implements ResourceEventAware<R> {
   private static final Logger log = LoggerFactory.getLogger(TimerEventSource.class);
 
-  private final Timer timer = new Timer(true);
+  private final ScheduledThreadPoolExecutor scheduler;
   private final AtomicBoolean running = new AtomicBoolean();
-  private final Map<ResourceID, EventProducerTimeTask> onceTasks = new ConcurrentHashMap<>();
+  private final Map<ResourceID, OnceTask> onceTasks = new ConcurrentHashMap<>();
+
+  public TimerEventSource() {
+    scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final var thread = new Thread(runnable, "TimerEventSource");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+  }
 
   public void scheduleOnce(R resource, long delay) {
     scheduleOnce(ResourceID.fromResource(resource), delay);
   }
 
   public void scheduleOnce(ResourceID resourceID, long delay) {
+    scheduleOnce(resourceID, delay, false);
+  }
+
+  /**
+   * Schedules an event for the resource after the given delay, unless one is already scheduled
+   * later, in which case that schedule is kept: unlike {@link #scheduleOnce(ResourceID, long)},
+   * this never brings a schedule forward.
+   *
+   * @param resourceID the resource to produce an event for
+   * @param delay the minimal delay in milliseconds
+   */
+  public void scheduleOnceNotBefore(ResourceID resourceID, long delay) {
+    scheduleOnce(resourceID, delay, true);
+  }
+
+  private void scheduleOnce(ResourceID resourceID, long delay, boolean keepLaterSchedule) {
     if (!running.get()) {
       throw new IllegalStateException("The TimerEventSource is not running");
     }
 
-    if (onceTasks.containsKey(resourceID)) {
-      cancelOnceSchedule(resourceID);
-    }
-    EventProducerTimeTask task = new EventProducerTimeTask(resourceID);
-    onceTasks.put(resourceID, task);
-    timer.schedule(task, delay);
+    final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+    onceTasks.compute(resourceID, (id, existing) -> {
+      if (existing != null) {
+        if (keepLaterSchedule && existing.deadline - deadline >= 0) {
+          return existing;
+        }
+        if (existing.postponeTo(deadline)) {
+          return existing;
+        }
+        existing.cancel();
+      }
+      final var task = new OnceTask(id, deadline);
+      task.schedule();
+      return task;
+    });
   }
 
   @Override
@@ -47,9 +94,9 @@ public class TimerEventSource<R extends HasMetadata>
   }
 
   public void cancelOnceSchedule(ResourceID customResourceUid) {
-    TimerTask timerTask = onceTasks.remove(customResourceUid);
-    if (timerTask != null) {
-      timerTask.cancel();
+    final var task = onceTasks.remove(customResourceUid);
+    if (task != null) {
+      task.cancel();
     }
   }
 
@@ -62,9 +109,15 @@ public class TimerEventSource<R extends HasMetadata>
   public void stop() {
     running.set(false);
     onceTasks.keySet().forEach(this::cancelOnceSchedule);
-    timer.cancel();
+    scheduler.shutdownNow();
   }
 
+  /**
+   * @deprecated Schedules are not backed by a {@link java.util.Timer} anymore, so this task is not
+   *             used by this event source. Running it still produces an event for the resource if
+   *             the event source is running.
+   */
+  @Deprecated(forRemoval = true)
   public class EventProducerTimeTask extends TimerTask {
 
     protected final ResourceID customResourceUid;
@@ -77,7 +130,67 @@ public class TimerEventSource<R extends HasMetadata>
     public void run() {
       if (running.get()) {
         log.debug("Producing event for custom resource id: {}", customResourceUid);
-        getEventHandler().handleEvent(new Event(customResourceUid));
+        getEventHandler().handleEvent(new TimerEvent(customResourceUid));
+      }
+    }
+  }
+
+  int scheduledTasks() {
+    return scheduler.getQueue().size();
+  }
+
+  private class OnceTask implements Runnable {
+
+    private final ResourceID resourceID;
+    // both fields are only accessed while holding the onceTasks entry of the resource
+    private long deadline;
+    private long scheduledDeadline;
+    private ScheduledFuture<?> future;
+
+    private OnceTask(ResourceID resourceID, long deadline) {
+      this.resourceID = resourceID;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Records a new deadline without rescheduling, which is only possible if the task doesn't have
+     * to fire earlier than currently scheduled.
+     */
+    private boolean postponeTo(long newDeadline) {
+      if (newDeadline - scheduledDeadline >= 0) {
+        deadline = newDeadline;
+        return true;
+      }
+      return false;
+    }
+
+    private void schedule() {
+      scheduledDeadline = deadline;
+      future = scheduler.schedule(this, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private void cancel() {
+      future.cancel(false);
+    }
+
+    @Override
+    public void run() {
+      final var fire = new boolean[1];
+      onceTasks.computeIfPresent(resourceID, (id, current) -> {
+        if (current != this) {
+          return current;
+        }
+        if (deadline - System.nanoTime() > 0) {
+          // the deadline was pushed back since the task was scheduled
+          schedule();
+          return this;
+        }
+        fire[0] = true;
+        return null;
+      });
+      if (fire[0] && running.get()) {
+        log.debug("Producing event for custom resource id: {}", resourceID);
+        getEventHandler().handleEvent(new TimerEvent(resourceID));
       }
     }
   }
@@ -0,0 +1,62 @@
+package io.javaoperatorsdk.operator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+  private static final int VIRTUAL_NODES = 128;
+  private static final List<ResourceID> RESOURCES = IntStream.range(0, 10_000)
+      .mapToObj(i -> new ResourceID("resource-" + i, "namespace-" + i % 10))
+      .collect(Collectors.toList());
+
+  @Test
+  void splitsResourcesEvenlyBetweenMembers() {
+    final var ring = ring("a", "b", "c", "d");
+
+    final var counts = new HashMap<String, Integer>();
+    RESOURCES.forEach(id -> counts.merge(ring.ownerOf(id), 1, Integer::sum));
+
+    assertThat(counts).containsOnlyKeys("a", "b", "c", "d");
+    counts.values().forEach(count -> assertThat(count).isBetween(1_800, 3_200));
+  }
+
+  @Test
+  void assignsSameOwnerOnAllReplicas() {
+    final var ring = ring("a", "b", "c");
+    final var other = ring("c", "a", "b");
+
+    RESOURCES.forEach(id -> assertThat(ring.ownerOf(id)).isEqualTo(other.ownerOf(id)));
+  }
+
+  @Test
+  void onlyMovesResourcesOfLeavingMember() {
+    final var before = ring("a", "b", "c", "d");
+    final var after = ring("a", "b", "c");
+
+    final Map<Boolean, List<ResourceID>> moved = RESOURCES.stream()
+        .collect(Collectors.partitioningBy(id -> !before.ownerOf(id).equals(after.ownerOf(id))));
+
+    moved.get(true).forEach(id -> assertThat(before.ownerOf(id)).isEqualTo("d"));
+    moved.get(false).forEach(id -> assertThat(before.ownerOf(id)).isNotEqualTo("d"));
+  }
+
+  @Test
+  void emptyRingHasNoOwner() {
+    assertThat(ring().ownerOf(RESOURCES.get(0))).isNull();
+  }
+
+  private ConsistentHashRing ring(String... members) {
+    return new ConsistentHashRing(new TreeSet<>(List.of(members)), VIRTUAL_NODES);
+  }
+}
@@ -0,0 +1,92 @@
+package io.javaoperatorsdk.operator;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.Operator.ControllerManager;
+import io.javaoperatorsdk.operator.api.config.LeaderElectionConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+class LeaderElectionManagerTest {
+
+  private static final String NAMESPACE = "test";
+  private static final String LEASE_NAME = "leader-election-test";
+
+  KubernetesClient client;
+
+  private final ControllerManager firstControllers = mock(ControllerManager.class);
+  private final ControllerManager secondControllers = mock(ControllerManager.class);
+  private LeaderElectionManager first;
+  private LeaderElectionManager second;
+
+  @AfterEach
+  void stopManagers() {
+    if (first != null) {
+      first.stop();
+    }
+    if (second != null) {
+      second.stop();
+    }
+  }
+
+  @Test
+  void onlyLeaderProcessesEvents() {
+    first = manager(firstControllers, "first");
+    first.start();
+    verify(firstControllers, timeout(2000)).startEventProcessing();
+    assertThat(first.isLeader()).isTrue();
+
+    second = manager(secondControllers, "second");
+    second.start();
+
+    verify(secondControllers, after(1000).never()).startEventProcessing();
+    assertThat(second.isLeader()).isFalse();
+    final var lease = client.resources(Lease.class).inNamespace(NAMESPACE).withName(LEASE_NAME)
+        .get();
+    assertThat(lease.getSpec().getHolderIdentity()).isEqualTo("first");
+  }
+
+  @Test
+  void standbyTakesOverWhenLeaderStops() {
+    first = manager(firstControllers, "first");
+    first.start();
+    verify(firstControllers, timeout(2000)).startEventProcessing();
+    second = manager(secondControllers, "second");
+    second.start();
+
+    first.stop();
+
+    verify(firstControllers).stopEventProcessing(Duration.ofMillis(200));
+    verify(secondControllers, timeout(5000)).startEventProcessing();
+    await().untilAsserted(() -> assertThat(second.isLeader()).isTrue());
+  }
+
+  @Test
+  void failsIfLeaseNamespaceCannotBeInferred() {
+    first = new LeaderElectionManager(mock(KubernetesClient.class), firstControllers,
+        new LeaderElectionConfiguration(LEASE_NAME));
+
+    assertThrows(OperatorException.class, first::start);
+    verify(firstControllers, never()).startEventProcessing();
+  }
+
+  private LeaderElectionManager manager(ControllerManager controllers, String identity) {
+    return new LeaderElectionManager(client, controllers,
+        new LeaderElectionConfiguration(LEASE_NAME, NAMESPACE, identity, Duration.ofSeconds(1),
+            Duration.ofMillis(800), Duration.ofMillis(100)));
+  }
+}
@@ -1,5 +1,7 @@
 package io.javaoperatorsdk.operator;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.javaoperatorsdk.operator.api.config.AbstractConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ConfigurationServiceProvider;
@@ -15,9 +18,13 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimited;
+import io.javaoperatorsdk.operator.processing.event.rate.TokenBucketRateLimiter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings("rawtypes")
 class OperatorTest {
@@ -74,6 +81,46 @@ class OperatorTest {
     assertEquals(maybeController.get(), registeredControllers.stream().findFirst().orElseThrow());
   }
 
+  @Test
+  void sharesRateLimitBetweenControllersUsingOperatorScope() {
+    final var rateLimiter =
+        new TokenBucketRateLimiter(Duration.ofMinutes(1), 1, RateLimited.Scope.OPERATOR);
+    final var other =
+        new TokenBucketRateLimiter(Duration.ofMinutes(1), 1, RateLimited.Scope.OPERATOR);
+
+    allowSecretsReconciliation();
+    operator.register(new FooReconciler(), o -> o.withRateLimiter(rateLimiter));
+    operator.register(new BarReconciler(), o -> o.withRateLimiter(other));
+
+    assertSame(rateLimiter.initState(), other.initState());
+  }
+
+  @Test
+  void doesNotRegisterControllerWithDifferentOperatorRateLimit() {
+    allowSecretsReconciliation();
+    operator.register(new FooReconciler(), o -> o.withRateLimiter(
+        new TokenBucketRateLimiter(Duration.ofMinutes(1), 1, RateLimited.Scope.OPERATOR)));
+
+    Assertions.assertThrows(OperatorException.class,
+        () -> operator.register(new BarReconciler(), o -> o.withRateLimiter(
+            new TokenBucketRateLimiter(Duration.ofMinutes(1), 2, RateLimited.Scope.OPERATOR))));
+    assertEquals(1, operator.getRegisteredControllersNumber());
+  }
+
+  private void allowSecretsReconciliation() {
+    final var secrets = MockKubernetesClient.client(Secret.class).resources(Secret.class);
+    when(kubernetesClient.resources(Secret.class)).thenReturn(secrets);
+  }
+
+  @ControllerConfiguration
+  private static class BarReconciler implements Reconciler<Secret> {
+
+    @Override
+    public UpdateControl<Secret> reconcile(Secret resource, Context context) {
+      return UpdateControl.noUpdate();
+    }
+  }
+
   @ControllerConfiguration
   private static class FooReconciler implements Reconciler<ConfigMap> {
 
@@ -4,6 +4,7 @@ import java.net.URI;
 
 import org.junit.jupiter.api.Test;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Namespaced;
@@ -21,6 +22,7 @@ import io.fabric8.kubernetes.model.annotation.ShortNames;
 import io.fabric8.kubernetes.model.annotation.Version;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomReconciler;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResourceSpec;
 
 import static io.javaoperatorsdk.operator.ReconcilerUtils.getDefaultFinalizerName;
 import static io.javaoperatorsdk.operator.ReconcilerUtils.getDefaultNameFor;
@@ -28,6 +30,7 @@ import static io.javaoperatorsdk.operator.ReconcilerUtils.getDefaultReconcilerNa
 import static io.javaoperatorsdk.operator.ReconcilerUtils.handleKubernetesClientException;
 import static io.javaoperatorsdk.operator.ReconcilerUtils.isFinalizerValid;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -98,6 +101,45 @@ class ReconcilerUtilsTest {
     assertThat(deployment.getSpec().getReplicas()).isEqualTo(1);
   }
 
+  @Test
+  void getsAndSetsSpecOfCustomResource() {
+    var resource = TestUtils.testCustomResource();
+    var newSpec = new TestCustomResourceSpec();
+    newSpec.setKey("new-key");
+
+    assertThat(ReconcilerUtils.getSpec(resource)).isSameAs(resource.getSpec());
+    ReconcilerUtils.setSpec(resource, newSpec);
+    assertThat(resource.getSpec()).isSameAs(newSpec);
+  }
+
+  @Test
+  void failsToSetSpecOfAnotherType() {
+    assertThatThrownBy(() -> ReconcilerUtils.setSpec(TestUtils.testCustomResource(),
+        new DeploymentSpec())).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> ReconcilerUtils.setSpec(new Deployment(),
+        new TestCustomResourceSpec())).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void doesNotWrapErrorsThrownBySpecAccessors() {
+    var resource = new FailingDeployment();
+
+    assertThatThrownBy(() -> ReconcilerUtils.getSpec(resource))
+        .isInstanceOf(AssertionError.class);
+    assertThatThrownBy(() -> ReconcilerUtils.setSpec(resource, new DeploymentSpec()))
+        .isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  void failsToAccessSpecOfResourceWithoutSpec() {
+    var configMap = new ConfigMap();
+
+    assertThatThrownBy(() -> ReconcilerUtils.getSpec(configMap))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> ReconcilerUtils.setSpec(configMap, new DeploymentSpec()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
   @Test
   void loadYamlAsBuilder() {
     DeploymentBuilder builder =
@@ -137,4 +179,17 @@ class ReconcilerUtilsTest {
   private static class Tomcat extends CustomResource<Void, Void> implements Namespaced {
 
   }
+
+  public static class FailingDeployment extends Deployment {
+
+    @Override
+    public DeploymentSpec getSpec() {
+      throw new AssertionError("getSpec");
+    }
+
+    @Override
+    public void setSpec(DeploymentSpec spec) {
+      throw new AssertionError("setSpec");
+    }
+  }
 }
@@ -0,0 +1,105 @@
+package io.javaoperatorsdk.operator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.Operator.ControllerManager;
+import io.javaoperatorsdk.operator.api.config.ShardingConfiguration;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+class ShardManagerTest {
+
+  private static final String NAMESPACE = "test";
+  private static final String GROUP = "shard-test";
+  private static final List<ResourceID> RESOURCES = IntStream.range(0, 100)
+      .mapToObj(i -> new ResourceID("resource-" + i, NAMESPACE))
+      .collect(Collectors.toList());
+
+  KubernetesClient client;
+
+  private ShardManager first;
+  private ShardManager second;
+
+  @AfterEach
+  void stopManagers() {
+    if (first != null) {
+      first.stop();
+    }
+    if (second != null) {
+      second.stop();
+    }
+  }
+
+  @Test
+  void singleMemberOwnsAllResources() {
+    final var controllers = mock(ControllerManager.class);
+    first = manager(controllers, "first");
+
+    first.start();
+
+    RESOURCES.forEach(id -> assertThat(first.owns(id)).isTrue());
+    assertThat(client.resources(Lease.class).inNamespace(NAMESPACE)
+        .withLabel(ShardManager.SHARD_GROUP_LABEL, GROUP).list().getItems()).hasSize(1);
+  }
+
+  @Test
+  void membersSplitResources() {
+    first = manager(mock(ControllerManager.class), "first");
+    second = manager(mock(ControllerManager.class), "second");
+
+    first.start();
+    second.start();
+
+    await().untilAsserted(() -> RESOURCES
+        .forEach(id -> assertThat(first.owns(id)).isNotEqualTo(second.owns(id))));
+    assertThat(RESOURCES.stream().filter(first::owns)).isNotEmpty();
+    assertThat(RESOURCES.stream().filter(second::owns)).isNotEmpty();
+  }
+
+  @Test
+  void remainingMemberTakesOverResourcesOfLeavingMember() {
+    final var controllers = new RecordingControllerManager();
+    first = manager(controllers, "first");
+    second = manager(mock(ControllerManager.class), "second");
+    first.start();
+    second.start();
+    await().until(() -> RESOURCES.stream().anyMatch(second::owns));
+    await().until(() -> RESOURCES.stream().anyMatch(id -> !controllers.ownership.test(id)));
+
+    second.stop();
+    second = null;
+
+    await().untilAsserted(() -> RESOURCES.forEach(id -> {
+      assertThat(first.owns(id)).isTrue();
+      assertThat(controllers.ownership.test(id)).isTrue();
+    }));
+  }
+
+  private ShardManager manager(ControllerManager controllers, String identity) {
+    return new ShardManager(client, controllers, new ShardingConfiguration(GROUP, NAMESPACE,
+        identity, Duration.ofSeconds(2), Duration.ofMillis(100), 16));
+  }
+
+  private static class RecordingControllerManager extends ControllerManager {
+    private volatile Predicate<ResourceID> ownership = id -> true;
+
+    @Override
+    public synchronized void changeOwnership(Predicate<ResourceID> ownership) {
+      this.ownership = ownership;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -10,6 +11,7 @@ import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
@@ -120,6 +122,31 @@ class ControllerConfigurationOverriderTest {
     }
   }
 
+  @Test
+  void overridingMaxConcurrentReconciliationsShouldWork() {
+    var configuration = createConfiguration(new NamedDependentReconciler());
+    assertEquals(Constants.NO_MAX_CONCURRENT_RECONCILIATIONS,
+        configuration.maxConcurrentReconciliations());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withMaxConcurrentReconciliations(100)
+        .build();
+    assertEquals(100, configuration.maxConcurrentReconciliations());
+  }
+
+  @Test
+  void overridingReconciliationPrioritiesShouldWork() {
+    var configuration = createConfiguration(new NamedDependentReconciler());
+    assertEquals(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        configuration.getReconciliationPriorities());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withReconciliationPriorities(ReconciliationTrigger.RETRY, ReconciliationTrigger.DELETION)
+        .build();
+    assertEquals(List.of(ReconciliationTrigger.RETRY, ReconciliationTrigger.DELETION),
+        configuration.getReconciliationPriorities());
+  }
+
   @Test
   void overridingNamespacesShouldWork() {
     var configuration = createConfiguration(new WatchCurrentReconciler());
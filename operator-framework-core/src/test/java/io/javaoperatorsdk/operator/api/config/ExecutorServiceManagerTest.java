@@ -0,0 +1,108 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+class ExecutorServiceManagerTest {
+
+  @AfterEach
+  void stop() {
+    ExecutorServiceManager.stop();
+  }
+
+  @Test
+  void usesSharedExecutorIfNoThreadPoolConfigured() {
+    var configuration = configuration("shared-controller", null);
+
+    var executor = ExecutorServiceManager.instance().executorServiceFor(configuration);
+
+    assertThat(executor).isSameAs(ExecutorServiceManager.instance().executorService());
+  }
+
+  @Test
+  void usesDedicatedExecutorPerControllerIfThreadPoolConfigured() {
+    var poolConfiguration = new ThreadPoolConfiguration(2);
+    var configuration = configuration("dedicated-controller", poolConfiguration);
+    var otherConfiguration = configuration("other-controller", poolConfiguration);
+
+    var manager = ExecutorServiceManager.instance();
+    var executor = manager.executorServiceFor(configuration);
+
+    assertThat(executor).isNotSameAs(manager.executorService());
+    assertThat(manager.executorServiceFor(configuration)).isSameAs(executor);
+    assertThat(manager.executorServiceFor(otherConfiguration)).isNotSameAs(executor);
+  }
+
+  @Test
+  void rejectsExecutionsWhenBoundedQueueIsFull() throws InterruptedException {
+    var configuration = configuration("bounded-controller",
+        new ThreadPoolConfiguration(1, 1, RejectionPolicy.RESCHEDULE));
+    var executor = ExecutorServiceManager.instance().executorServiceFor(configuration);
+    var latch = new CountDownLatch(1);
+    Runnable blocking = () -> {
+      try {
+        latch.await(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    executor.execute(blocking);
+    executor.execute(blocking);
+
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(blocking));
+    latch.countDown();
+  }
+
+  @Test
+  void runsInCallerThreadWhenBoundedQueueIsFullAndConfiguredSo() {
+    var configuration = configuration("caller-runs-controller",
+        new ThreadPoolConfiguration(1, 1, RejectionPolicy.CALLER_RUNS));
+    var executor = ExecutorServiceManager.instance().executorServiceFor(configuration);
+    var latch = new CountDownLatch(1);
+    Runnable blocking = () -> {
+      try {
+        latch.await(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    executor.execute(blocking);
+    executor.execute(blocking);
+
+    var caller = Thread.currentThread();
+    var executingThread = new Thread[1];
+    executor.execute(() -> executingThread[0] = Thread.currentThread());
+
+    assertThat(executingThread[0]).isSameAs(caller);
+    latch.countDown();
+  }
+
+  @Test
+  void threadPoolConfigurationIsValidated() {
+    assertThrows(IllegalArgumentException.class, () -> new ThreadPoolConfiguration(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ThreadPoolConfiguration(1, 0, RejectionPolicy.RESCHEDULE));
+  }
+
+  private ControllerConfiguration<TestCustomResource> configuration(String name,
+      ThreadPoolConfiguration threadPoolConfiguration) {
+    var configuration = MockControllerConfiguration.forResource(TestCustomResource.class);
+    when(configuration.getName()).thenReturn(name);
+    when(configuration.getThreadPoolConfiguration())
+        .thenReturn(Optional.ofNullable(threadPoolConfiguration));
+    return configuration;
+  }
+}
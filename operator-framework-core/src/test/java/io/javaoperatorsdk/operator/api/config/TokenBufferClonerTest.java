@@ -0,0 +1,78 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.TestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBufferClonerTest {
+
+  private final Cloner cloner = new TokenBufferCloner();
+
+  @Test
+  void clonesDeployment() {
+    var deployment = new DeploymentBuilder()
+        .withNewMetadata().withName("test").withNamespace("default")
+        .addToLabels("app", "test").withResourceVersion("1").endMetadata()
+        .withNewSpec().withReplicas(3)
+        .withNewTemplate().withNewSpec().addNewContainer().withName("nginx").withImage("nginx")
+        .withNewResources().addToLimits("cpu", new Quantity("500m"))
+        .addToLimits("memory", new Quantity("128Mi")).endResources()
+        .endContainer().endSpec().endTemplate().endSpec()
+        .build();
+
+    assertClonedLikeDefaultCloner(deployment);
+  }
+
+  @Test
+  void clonesConfigMap() {
+    Map<String, String> data = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      data.put("key" + i, "value" + i);
+    }
+    var configMap = new ConfigMapBuilder()
+        .withNewMetadata().withName("test").withNamespace("default").endMetadata()
+        .withData(data)
+        .build();
+
+    assertClonedLikeDefaultCloner(configMap);
+  }
+
+  @Test
+  void clonesCustomResource() {
+    var resource = TestUtils.testCustomResource();
+    resource.getSpec().setValue("x".repeat(100_000));
+
+    assertClonedLikeDefaultCloner(resource);
+  }
+
+  @Test
+  void cloneIsIndependentFromOriginal() {
+    var resource = TestUtils.testCustomResource();
+
+    var clone = cloner.clone(resource);
+    clone.getMetadata().getAnnotations().put("changed", "true");
+    clone.getSpec().setKey("changed");
+
+    assertThat(resource.getMetadata().getAnnotations()).doesNotContainKey("changed");
+    assertThat(resource.getSpec().getKey()).isEqualTo("test-key");
+  }
+
+  private void assertClonedLikeDefaultCloner(HasMetadata resource) {
+    var clone = cloner.clone(resource);
+
+    assertThat(clone).isNotSameAs(resource).isInstanceOf(resource.getClass());
+    assertThat(Serialization.asJson(clone))
+        .isEqualTo(Serialization.asJson(ConfigurationService.DEFAULT_CLONER.clone(resource)))
+        .isEqualTo(Serialization.asJson(resource));
+  }
+}
@@ -5,6 +5,8 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
@@ -67,6 +69,39 @@ class GenericKubernetesResourceMatcherTest {
         .isFalse();
   }
 
+  @Test
+  void checksArraysAreOnlyExtendedInActual() {
+    final var desired = createDeployment();
+    final var matcher = GenericKubernetesResourceMatcher.matcherFor(Deployment.class,
+        new KubernetesDependentResource<>(Deployment.class) {
+          @Override
+          protected Deployment desired(HasMetadata primary, Context context) {
+            return desired;
+          }
+        });
+
+    var actual = createDeployment();
+    actual.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts()
+        .add(new ContainerPortBuilder().withContainerPort(8080).build());
+    actual.getSpec().getTemplate().getSpec().getContainers()
+        .add(0, new ContainerBuilder().withName("sidecar").withImage("busybox").build());
+    assertThat(matcher.match(actual, null, context).matched())
+        .withFailMessage("Additional array elements should be ok")
+        .isTrue();
+
+    actual = createDeployment();
+    actual.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("nginx:1.19.0");
+    assertThat(matcher.match(actual, null, context).matched())
+        .withFailMessage("Changed values in array elements are not ok")
+        .isFalse();
+
+    actual = createDeployment();
+    actual.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().clear();
+    assertThat(matcher.match(actual, null, context).matched())
+        .withFailMessage("Removed array elements are not ok")
+        .isFalse();
+  }
+
   Deployment createDeployment() {
     return ReconcilerUtils.loadYaml(
         Deployment.class, GenericKubernetesResourceMatcherTest.class, "nginx-deployment.yaml");
@@ -0,0 +1,89 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationDispatcher.CustomResourceFacade;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnableKubernetesMockClient(https = false)
+class CustomResourceFacadeTest {
+
+  private static final String FINALIZER = "sample.javaoperatorsdk.io/finalizer";
+
+  KubernetesMockServer server;
+  KubernetesClient client;
+
+  @Test
+  void patchesOnlyChangesMadeToResourceWithItsVersionWithoutReadingIt()
+      throws InterruptedException {
+    var original = TestUtils.testCustomResource1();
+    original.getMetadata().setLabels(Map.of("removed", "value", "kept", "value"));
+    var resource = TestUtils.testCustomResource1();
+    resource.getMetadata().setLabels(Map.of("kept", "value"));
+    resource.addFinalizer(FINALIZER);
+    resource.getSpec().setValue("changed");
+    server.expect().patch().withPath(pathOf(resource)).andReturn(200, resource).once();
+    var requests = server.getRequestCount();
+
+    facade().patchResourceWithLock(resource, original);
+
+    assertThat(server.getRequestCount() - requests).isEqualTo(1);
+    var request = server.getLastRequest();
+    assertThat(request.getMethod()).isEqualTo("PATCH");
+    assertThat(Serialization.unmarshal(request.getBody().readUtf8(), Map.class)).isEqualTo(Map.of(
+        "metadata", Map.of(
+            "labels", Collections.singletonMap("removed", null),
+            "finalizers", List.of(FINALIZER),
+            "resourceVersion", "1"),
+        "spec", Map.of("value", "changed")));
+  }
+
+  @Test
+  void patchesOnlyStatusWithoutResourceVersionWithoutReadingResource()
+      throws InterruptedException {
+    var original = TestUtils.testCustomResource1();
+    var resource = TestUtils.testCustomResource1();
+    resource.getSpec().setValue("changed");
+    resource.getStatus().setConfigMapStatus("ready");
+    server.expect().patch().withPath(pathOf(resource) + "/status").andReturn(200, resource).once();
+    var requests = server.getRequestCount();
+
+    facade().patchStatus(resource, original);
+
+    assertThat(server.getRequestCount() - requests).isEqualTo(1);
+    var request = server.getLastRequest();
+    assertThat(request.getMethod()).isEqualTo("PATCH");
+    assertThat(request.getHeader("Content-Type")).startsWith("application/merge-patch+json");
+    assertThat(Serialization.unmarshal(request.getBody().readUtf8(), Map.class)).isEqualTo(Map.of(
+        "apiVersion", HasMetadata.getApiVersion(TestCustomResource.class),
+        "kind", HasMetadata.getKind(TestCustomResource.class),
+        "metadata", Map.of(
+            "name", resource.getMetadata().getName(),
+            "namespace", resource.getMetadata().getNamespace()),
+        // the spec initialized by the resource is empty, leaving the spec unchanged
+        "spec", Map.of(),
+        "status", Map.of("configMapStatus", "ready")));
+  }
+
+  private CustomResourceFacade<TestCustomResource> facade() {
+    return new CustomResourceFacade<>(client.resources(TestCustomResource.class));
+  }
+
+  // test resources are cluster scoped
+  private static String pathOf(TestCustomResource resource) {
+    return "/apis/" + HasMetadata.getApiVersion(TestCustomResource.class) + "/"
+        + HasMetadata.getPlural(TestCustomResource.class) + "/" + resource.getMetadata().getName();
+  }
+}
@@ -2,8 +2,12 @@ package io.javaoperatorsdk.operator.processing.event;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,14 +19,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration;
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration.OverflowPolicy;
+import io.javaoperatorsdk.operator.api.config.DebounceConfiguration;
 import io.javaoperatorsdk.operator.api.config.RetryConfiguration;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.processing.event.rate.LinearRateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ControllerResourceEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEvent;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
@@ -31,6 +40,7 @@ import static io.javaoperatorsdk.operator.TestUtils.markForDeletion;
 import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.after;
@@ -89,10 +99,92 @@ class EventProcessorTest {
     verify(reconciliationDispatcherMock, timeout(50).times(1)).handleExecution(any());
   }
 
+  @Test
+  void evictsStateOfIdleResources() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final ArgumentCaptor<Map<?, ?>> states = ArgumentCaptor.forClass(Map.class);
+    verify(metricsMock).monitorResourceStates(eq("Test"), states.capture());
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+
+    final var event = prepareCREvent();
+    eventProcessor.handleEvent(event);
+
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+    await().untilAsserted(() -> assertThat(states.getValue()).isEmpty());
+    assertThat(eventProcessor.isUnderProcessing(event.getRelatedCustomResourceID())).isFalse();
+    assertThat(states.getValue()).isEmpty();
+  }
+
+  @Test
+  void keepsStateOfRateLimitedResources() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, new LinearRateLimiter(Duration.ofMinutes(1), 5), metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final ArgumentCaptor<Map<?, ?>> states = ArgumentCaptor.forClass(Map.class);
+    verify(metricsMock).monitorResourceStates(eq("Test"), states.capture());
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+
+    eventProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+    verify(metricsMock, timeout(100)).finishedReconciliation(any(), any());
+    assertThat(states.getValue()).hasSize(1);
+  }
+
+  @Test
+  void evictsStateOfRateLimitedResourcesOnceRateLimitIsIrrelevant() throws InterruptedException {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, new LinearRateLimiter(Duration.ofMillis(100), 5), metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final ArgumentCaptor<Map<?, ?>> states = ArgumentCaptor.forClass(Map.class);
+    verify(metricsMock).monitorResourceStates(eq("Test"), states.capture());
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    eventProcessor.handleEvent(prepareCREvent());
+    verify(metricsMock, timeout(100)).finishedReconciliation(any(), any());
+
+    eventProcessor.evictIdleStates();
+    assertThat(states.getValue()).hasSize(1);
+    Thread.sleep(150);
+    eventProcessor.evictIdleStates();
+
+    assertThat(states.getValue()).isEmpty();
+  }
+
+  @Test
+  void evictsStateOnceRetriesAreExhausted() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", GenericRetry.noRetry(), LinearRateLimiter.deactivatedRateLimiter(),
+        metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final ArgumentCaptor<Map<?, ?>> states = ArgumentCaptor.forClass(Map.class);
+    verify(metricsMock).monitorResourceStates(eq("Test"), states.capture());
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")));
+
+    eventProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+    await().untilAsserted(() -> assertThat(states.getValue()).isEmpty());
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(any(ResourceID.class), anyLong());
+  }
+
   @Test
   void skipProcessingIfLatestCustomResourceNotInCache() {
     Event event = prepareCREvent();
-    when(controllerResourceEventSourceMock.get(event.getRelatedCustomResourceID()))
+    when(controllerResourceEventSourceMock.getUnsafe(event.getRelatedCustomResourceID()))
         .thenReturn(Optional.empty());
 
     eventProcessor.handleEvent(event);
@@ -243,6 +335,80 @@ class EventProcessorTest {
     verify(reconciliationDispatcherMock, after(50).times(0)).handleExecution(any());
   }
 
+  @Test
+  void reconcilesAgainOnceRestartedIfEventsReceivedWhileStoppedDuringReconciliation()
+      throws InterruptedException {
+    final var reconciliation = blockingReconciliation(PostExecutionControl.defaultDispatch());
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+    eventProcessor.handleEvent(event);
+    assertThat(reconciliation.started.await(1, TimeUnit.SECONDS)).isTrue();
+
+    eventProcessor.stop();
+    eventProcessor.handleEvent(nonCREvent(resourceID));
+    assertThat(eventProcessor.awaitReconciliationsInProgress(Duration.ofMillis(50))).isFalse();
+    reconciliation.finish.countDown();
+
+    assertThat(eventProcessor.awaitReconciliationsInProgress(Duration.ofSeconds(1))).isTrue();
+    assertThat(eventProcessor.isUnderProcessing(resourceID)).isFalse();
+    verify(reconciliationDispatcherMock, after(100).times(1)).handleExecution(any());
+    eventProcessor.start();
+    verify(reconciliationDispatcherMock, timeout(1000).times(2)).handleExecution(any());
+  }
+
+  @Test
+  void retriesOnceRestartedIfReconciliationFailedWhileStopped() throws InterruptedException {
+    final var reconciliation = blockingReconciliation(
+        PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")));
+    eventProcessor.handleEvent(prepareCREvent());
+    assertThat(reconciliation.started.await(1, TimeUnit.SECONDS)).isTrue();
+
+    eventProcessor.stop();
+    reconciliation.finish.countDown();
+    assertThat(eventProcessor.awaitReconciliationsInProgress(Duration.ofSeconds(1))).isTrue();
+    eventProcessor.start();
+
+    verify(reconciliationDispatcherMock, timeout(1000).times(2)).handleExecution(any());
+  }
+
+  @Test
+  void doesNotRunReconciliationsSubmittedBeforeBeingStopped() throws InterruptedException {
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, rateLimiterMock, null, 1));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var reconciliation = blockingReconciliation(PostExecutionControl.defaultDispatch());
+    eventProcessor.handleEvent(prepareCREvent());
+    assertThat(reconciliation.started.await(1, TimeUnit.SECONDS)).isTrue();
+    final var queued = prepareCREvent();
+    eventProcessor.handleEvent(queued);
+
+    eventProcessor.stop();
+    reconciliation.finish.countDown();
+
+    verify(reconciliationDispatcherMock, after(200).times(1)).handleExecution(any());
+    assertThat(eventProcessor.isUnderProcessing(queued.getRelatedCustomResourceID())).isFalse();
+    eventProcessor.start();
+    verify(reconciliationDispatcherMock, timeout(1000).times(2)).handleExecution(any());
+  }
+
+  private BlockingReconciliation blockingReconciliation(PostExecutionControl result) {
+    final var reconciliation = new BlockingReconciliation();
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .then(invocationOnMock -> {
+          reconciliation.started.countDown();
+          reconciliation.finish.await();
+          return result;
+        })
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    return reconciliation;
+  }
+
+  private static class BlockingReconciliation {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+  }
+
   @Test
   void cancelScheduleOnceEventsOnSuccessfulExecution() {
     var crID = new ResourceID("test-cr", TEST_NAMESPACE);
@@ -261,7 +427,7 @@ class EventProcessorTest {
         spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock, "Test", null,
             LinearRateLimiter.deactivatedRateLimiter(),
             metricsMock));
-    when(controllerResourceEventSourceMock.get(eq(crID)))
+    when(controllerResourceEventSourceMock.getUnsafe(eq(crID)))
         .thenReturn(Optional.of(testCustomResource()));
     eventProcessor.handleEvent(new Event(crID));
 
@@ -298,6 +464,9 @@ class EventProcessorTest {
 
     verify(controllerResourceEventSourceMock, times(0)).handleRecentResourceUpdate(any(), any(),
         any());
+    // events of status patches are filtered around the patch itself
+    verify(controllerResourceEventSourceMock, never()).handleRecentStatusPatch(any(), any(),
+        any());
   }
 
   @Test
@@ -367,6 +536,212 @@ class EventProcessorTest {
     verify(retryTimerEventSourceMock, times(1)).scheduleOnce((ResourceID) any(), anyLong());
   }
 
+  @Test
+  void handlesEventsForOtherResourcesWhileOneResourceIsLocked() throws InterruptedException {
+    var lockedEvent = prepareCREvent(new ResourceID("locked-resource", TEST_NAMESPACE));
+    var otherEvent = prepareCREvent(new ResourceID("other-resource", TEST_NAMESPACE));
+    var resourceStateManager = new ResourceStateManager();
+    assertThat(resourceStateManager.lockFor(lockedEvent.getRelatedCustomResourceID()))
+        .isNotSameAs(resourceStateManager.lockFor(otherEvent.getRelatedCustomResourceID()));
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .then((Answer<PostExecutionControl>) invocationOnMock -> {
+          // keeps the lock of the first resource busy while the other event is handled
+          Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION);
+          return PostExecutionControl.defaultDispatch();
+        });
+    doAnswer(invocation -> {
+      Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION);
+      return null;
+    }).when(metricsMock).receivedEvent(eq(lockedEvent), any());
+    eventProcessor =
+        spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock, "Test", null,
+            LinearRateLimiter.deactivatedRateLimiter(), metricsMock));
+    eventProcessor.start();
+
+    var lockingThread = new Thread(() -> eventProcessor.handleEvent(lockedEvent));
+    lockingThread.start();
+    Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION / 5);
+    eventProcessor.handleEvent(otherEvent);
+
+    verify(reconciliationDispatcherMock, timeout(FAKE_CONTROLLER_EXECUTION_DURATION / 2).times(1))
+        .handleExecution(any());
+    lockingThread.join();
+  }
+
+  @Test
+  void limitsConcurrentReconciliationsIfConfigured() {
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .then((Answer<PostExecutionControl>) invocationOnMock -> {
+          Thread.sleep(FAKE_CONTROLLER_EXECUTION_DURATION);
+          return PostExecutionControl.defaultDispatch();
+        });
+    eventProcessor =
+        spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock, "Test", null,
+            LinearRateLimiter.deactivatedRateLimiter(), null, 1));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+
+    eventProcessor.handleEvent(prepareCREvent());
+    eventProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, after(FAKE_CONTROLLER_EXECUTION_DURATION / 2).times(1))
+        .handleExecution(any());
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+  }
+
+  @Test
+  void debouncesEventsReceivedWithinWindow() {
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), null,
+        Constants.NO_MAX_CONCURRENT_RECONCILIATIONS,
+        new DebounceConfiguration(Duration.ofMillis(100), Duration.ofSeconds(1)), null));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+    eventProcessor.handleEvent(event);
+    eventProcessor.handleEvent(nonCREvent(resourceID));
+
+    verify(retryTimerEventSourceMock, times(3)).scheduleOnce(eq(resourceID), anyLong());
+    verify(reconciliationDispatcherMock, after(150).never()).handleExecution(any());
+
+    eventProcessor.handleEvent(new TimerEvent(resourceID));
+
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+  }
+
+  @Test
+  void debouncingDelayIsCapped() throws InterruptedException {
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), null,
+        Constants.NO_MAX_CONCURRENT_RECONCILIATIONS,
+        new DebounceConfiguration(Duration.ofMillis(200), Duration.ofMillis(250)), null));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+    Thread.sleep(100);
+    eventProcessor.handleEvent(event);
+
+    final var delays = ArgumentCaptor.forClass(Long.class);
+    verify(retryTimerEventSourceMock, times(2)).scheduleOnce(eq(resourceID), delays.capture());
+    assertThat(delays.getAllValues().get(0)).isEqualTo(200);
+    assertThat(delays.getAllValues().get(1)).isLessThanOrEqualTo(150);
+  }
+
+  @Test
+  void shedsEventsWhenBacklogIsFull() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), metricsMock, 1, null,
+        new BacklogConfiguration(1, OverflowPolicy.SHED)));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    eventAlreadyUnderProcessing();
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+
+    eventProcessor.handleEvent(prepareCREvent());
+    final var shed = prepareCREvent();
+    eventProcessor.handleEvent(shed);
+
+    verify(metricsMock, times(1)).eventShed(eq("Test"), eq(shed));
+    verify(retryTimerEventSourceMock, times(1))
+        .scheduleOnceNotBefore(eq(shed.getRelatedCustomResourceID()), anyLong());
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    verify(reconciliationDispatcherMock, after(FAKE_CONTROLLER_EXECUTION_DURATION).times(2))
+        .handleExecution(any());
+  }
+
+  @Test
+  void alwaysAcceptsDeleteEventsWhenBacklogIsFull() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), metricsMock, 1, null,
+        new BacklogConfiguration(1, OverflowPolicy.SHED)));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    eventAlreadyUnderProcessing();
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+
+    eventProcessor.handleEvent(prepareCREvent());
+    final var resourceID = new ResourceID(UUID.randomUUID().toString(), TEST_NAMESPACE);
+    eventProcessor.handleEvent(new ResourceEvent(ResourceAction.DELETED, resourceID, null));
+
+    verify(metricsMock, never()).eventShed(any(), any());
+    verify(retryTimerEventSourceMock, never()).scheduleOnce(eq(resourceID), anyLong());
+  }
+
+  @Test
+  void onlyReconcilesOwnedResources() {
+    final var owned = prepareCREvent();
+    eventProcessor.changeOwnership(id -> id.equals(owned.getRelatedCustomResourceID()));
+
+    eventProcessor.handleEvent(prepareCREvent());
+    eventProcessor.handleEvent(owned);
+
+    verify(reconciliationDispatcherMock, after(100).times(1)).handleExecution(any());
+  }
+
+  @Test
+  void reconcilesResourcesGainedOnOwnershipChange() {
+    final var gained = prepareCREvent().getRelatedCustomResourceID();
+    final var kept = prepareCREvent().getRelatedCustomResourceID();
+    eventProcessor.changeOwnership(id -> id.equals(kept));
+    when(controllerResourceEventSourceMock.keys()).thenReturn(Stream.of(gained, kept));
+
+    eventProcessor.changeOwnership(id -> true);
+
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+    verify(reconciliationDispatcherMock, after(100).times(1)).handleExecution(any());
+  }
+
+  @Test
+  void doesNotKeepStateOfResourcesOwnedByAnotherReplica() {
+    final var metricsMock = mock(Metrics.class);
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, rateLimiterMock, metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final ArgumentCaptor<Map<?, ?>> states = ArgumentCaptor.forClass(Map.class);
+    verify(metricsMock).monitorResourceStates(eq("Test"), states.capture());
+    eventProcessor.changeOwnership(id -> false);
+
+    eventProcessor.handleEvent(prepareCREvent());
+
+    assertThat(states.getValue()).isEmpty();
+    verify(reconciliationDispatcherMock, after(100).never()).handleExecution(any());
+  }
+
+  @Test
+  void doesNotBlockOnOwnershipChangeWhenBacklogIsFull() {
+    eventProcessor = spy(new EventProcessor(reconciliationDispatcherMock, eventSourceManagerMock,
+        "Test", null, LinearRateLimiter.deactivatedRateLimiter(), null, 1, null,
+        new BacklogConfiguration(1, OverflowPolicy.BLOCK)));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var gained = prepareCREvent().getRelatedCustomResourceID();
+    eventProcessor.changeOwnership(id -> !id.equals(gained));
+    final var reconciliation = blockingReconciliation(PostExecutionControl.defaultDispatch());
+    eventProcessor.handleEvent(prepareCREvent());
+    verify(reconciliationDispatcherMock, timeout(100).times(1)).handleExecution(any());
+    eventProcessor.handleEvent(prepareCREvent());
+    when(controllerResourceEventSourceMock.keys()).thenReturn(Stream.of(gained));
+
+    assertTimeoutPreemptively(Duration.ofSeconds(1),
+        () -> eventProcessor.changeOwnership(id -> true));
+
+    reconciliation.finish.countDown();
+    verify(reconciliationDispatcherMock, timeout(1000).times(3)).handleExecution(any());
+  }
+
   private ResourceID eventAlreadyUnderProcessing() {
     when(reconciliationDispatcherMock.handleExecution(any()))
         .then(
@@ -384,7 +759,7 @@ class EventProcessorTest {
   }
 
   private ResourceEvent prepareCREvent(HasMetadata hasMetadata) {
-    when(controllerResourceEventSourceMock.get(eq(ResourceID.fromResource(hasMetadata))))
+    when(controllerResourceEventSourceMock.getUnsafe(eq(ResourceID.fromResource(hasMetadata))))
         .thenReturn(Optional.of(hasMetadata));
     return new ResourceEvent(ResourceAction.UPDATED,
         ResourceID.fromResource(hasMetadata), hasMetadata);
@@ -392,7 +767,7 @@ class EventProcessorTest {
 
   private ResourceEvent prepareCREvent(ResourceID resourceID) {
     TestCustomResource customResource = testCustomResource(resourceID);
-    when(controllerResourceEventSourceMock.get(eq(resourceID)))
+    when(controllerResourceEventSourceMock.getUnsafe(eq(resourceID)))
         .thenReturn(Optional.of(customResource));
     return new ResourceEvent(ResourceAction.UPDATED,
         ResourceID.fromResource(customResource), customResource);
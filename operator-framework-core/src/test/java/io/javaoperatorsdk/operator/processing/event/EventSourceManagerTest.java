@@ -69,6 +69,22 @@ class EventSourceManagerTest {
     verify(eventSource2, times(1)).start();
   }
 
+  @Test
+  void eventProcessingCanBeStartedAfterEventSources() {
+    EventSource eventSource = mock(EventSource.class);
+    eventSourceManager.registerEventSource(eventSource);
+    final var eventProcessor = (EventProcessor) eventSourceManager.getEventHandler();
+
+    eventSourceManager.start(false);
+
+    verify(eventSource, times(1)).start();
+    assertThat(eventProcessor.isRunning()).isFalse();
+
+    eventSourceManager.startEventProcessor();
+
+    assertThat(eventProcessor.isRunning()).isTrue();
+  }
+
   @Test
   void retrievingEventSourceForClassShouldWork() {
     assertThatExceptionOfType(IllegalArgumentException.class)
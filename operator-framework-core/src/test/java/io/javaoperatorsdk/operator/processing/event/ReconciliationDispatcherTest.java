@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,6 +19,8 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.TestUtils;
@@ -38,6 +41,7 @@ import io.javaoperatorsdk.operator.processing.event.ReconciliationDispatcher.Cus
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.sample.observedgeneration.ObservedGenCustomResource;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResourceStatus;
 
 import static io.javaoperatorsdk.operator.TestUtils.markForDeletion;
 import static io.javaoperatorsdk.operator.processing.event.ReconciliationDispatcher.MAX_FINALIZER_REMOVAL_RETRY;
@@ -54,6 +58,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -185,6 +190,49 @@ class ReconciliationDispatcherTest {
     verify(customResourceFacade, never()).replaceResourceWithLock(any());
   }
 
+  @Test
+  void keepsUpdatedResourceWhenStatusPatchIsSkipped() {
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    reconciler.reconcile = (r, c) -> UpdateControl.patchResourceAndStatus(testCustomResource);
+    when(customResourceFacade.replaceResourceWithLock(testCustomResource))
+        .thenReturn(testCustomResource);
+
+    var postExecControl =
+        reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+
+    verify(customResourceFacade, times(1)).patchStatus(eq(testCustomResource), any());
+    assertThat(postExecControl.getUpdatedCustomResource()).contains(testCustomResource);
+  }
+
+  @Test
+  void doesNotSendStatusPatchIfStatusDidNotChange() {
+    var operation = mock(MixedOperation.class);
+    var facade = new CustomResourceFacade<TestCustomResource>(operation);
+    var original = TestUtils.testCustomResource();
+    original.setStatus(new TestCustomResourceStatus());
+    original.getStatus().setConfigMapStatus("status");
+    var resource = Serialization.clone(original);
+    resource.getSpec().setValue("changed");
+
+    assertThat(facade.patchStatus(resource, original)).isNull();
+    verifyNoInteractions(operation);
+  }
+
+  @Test
+  void patchesFinalizerOfResourcesPrunedBeforeBeingCached() {
+    final ControllerConfiguration<TestCustomResource> configuration =
+        MockControllerConfiguration.forResource(TestCustomResource.class);
+    when(configuration.cachePruneFunction()).thenReturn(Optional.of(UnaryOperator.identity()));
+    reconciliationDispatcher =
+        init(testCustomResource, reconciler, configuration, customResourceFacade, true);
+
+    reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+
+    verify(customResourceFacade, times(1)).patchResourceWithLock(
+        argThat(resource -> resource.hasFinalizer(DEFAULT_FINALIZER)), eq(testCustomResource));
+    verify(customResourceFacade, never()).replaceResourceWithLock(any());
+  }
+
   @Test
   void callCreateOrUpdateOnModifiedResourceIfFinalizerSet() {
     testCustomResource.addFinalizer(DEFAULT_FINALIZER);
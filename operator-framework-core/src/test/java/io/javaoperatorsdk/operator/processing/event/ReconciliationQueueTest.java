@@ -0,0 +1,239 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
+
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.CREATION;
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.DELETION;
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.RESCHEDULE;
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.RESOURCE_CHANGE;
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.RETRY;
+import static io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger.SPEC_CHANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReconciliationQueueTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final List<ReconciliationTrigger> executed = new CopyOnWriteArrayList<>();
+  private final CountDownLatch blocker = new CountDownLatch(1);
+
+  @AfterEach
+  void shutdown() {
+    blocker.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void dispatchesHigherPriorityExecutionsFirst() {
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE, Metrics.NOOP);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+
+    submit(queue, RETRY, RESCHEDULE, SPEC_CHANGE, DELETION, CREATION, RETRY);
+    blocker.countDown();
+
+    await().untilAsserted(() -> assertThat(executed).containsExactly(
+        DELETION, CREATION, SPEC_CHANGE, RESCHEDULE, RETRY, RETRY));
+  }
+
+  @Test
+  void dispatchesUnlistedTriggersLastInSubmissionOrder() {
+    final var queue = queue(List.of(RETRY), ThreadPoolConfiguration.UNBOUNDED_QUEUE,
+        RejectionPolicy.RESCHEDULE, Metrics.NOOP);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+
+    submit(queue, RESCHEDULE, DELETION, RETRY, CREATION);
+    blocker.countDown();
+
+    await().untilAsserted(() -> assertThat(executed).containsExactly(
+        RETRY, RESCHEDULE, DELETION, CREATION));
+  }
+
+  @Test
+  void rejectsExecutionsWhenFull() {
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES, 1,
+        RejectionPolicy.RESCHEDULE, Metrics.NOOP);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+
+    assertThat(queue.submit(CREATION, () -> executed.add(CREATION))).isTrue();
+    assertThat(queue.submit(DELETION, () -> executed.add(DELETION))).isFalse();
+    blocker.countDown();
+
+    await().untilAsserted(() -> assertThat(executed).containsExactly(CREATION));
+  }
+
+  @Test
+  void runsExecutionsOnCallerThreadWhenFullIfConfigured() {
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES, 1,
+        RejectionPolicy.CALLER_RUNS, Metrics.NOOP);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+    queue.submit(CREATION, () -> executed.add(CREATION));
+
+    final var caller = Thread.currentThread();
+    assertThat(queue.submit(DELETION, () -> {
+      assertThat(Thread.currentThread()).isSameAs(caller);
+      executed.add(DELETION);
+    })).isTrue();
+    // the execution only runs once the caller released its locks
+    assertThat(executed).isEmpty();
+    ReconciliationQueue.runDeferredWork();
+    assertThat(executed).containsExactly(DELETION);
+  }
+
+  @Test
+  void runsWorkersRunOnCallerThreadByExecutorOnceDeferredWorkIsRun() {
+    final var queue = new ReconciliationQueue("test", "test", Runnable::run, 1,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE,
+        ReconciliationTrigger.DEFAULT_PRIORITIES, Metrics.NOOP);
+
+    assertThat(queue.submit(CREATION, () -> executed.add(CREATION))).isTrue();
+    assertThat(queue.submit(DELETION, () -> executed.add(DELETION))).isTrue();
+    assertThat(executed).isEmpty();
+
+    ReconciliationQueue.runDeferredWork();
+
+    assertThat(executed).containsExactly(DELETION, CREATION);
+    assertThat(queue.size()).isZero();
+    assertThat(ReconciliationQueue.isWorkerThread()).isFalse();
+  }
+
+  @Test
+  void workersOfQueuesSharingExecutorTakeTurns() {
+    final var tasks = new ArrayDeque<Runnable>();
+    final var executed = new CopyOnWriteArrayList<String>();
+    final var first = new ReconciliationQueue("first", "shared", tasks::add, 1,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE,
+        ReconciliationTrigger.DEFAULT_PRIORITIES, Metrics.NOOP);
+    final var second = new ReconciliationQueue("second", "shared", tasks::add, 1,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE,
+        ReconciliationTrigger.DEFAULT_PRIORITIES, Metrics.NOOP);
+    for (int i = 1; i <= 3; i++) {
+      final var name = "first-" + i;
+      first.submit(RESOURCE_CHANGE, () -> executed.add(name));
+    }
+    second.submit(RESOURCE_CHANGE, () -> executed.add("second-1"));
+
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+
+    assertThat(executed).containsExactly("first-1", "second-1", "first-2", "first-3");
+    assertThat(first.size()).isZero();
+  }
+
+  @Test
+  void rejectsExecutionsWhenExecutorRejectsWorkers() {
+    final var queue = new ReconciliationQueue("test", "test", runnable -> {
+      throw new RejectedExecutionException();
+    }, 1, ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE,
+        ReconciliationTrigger.DEFAULT_PRIORITIES, Metrics.NOOP);
+
+    assertThat(queue.submit(CREATION, () -> executed.add(CREATION))).isFalse();
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void reportsQueueWaitTimePerTrigger() {
+    final var metrics = mock(Metrics.class);
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE, metrics);
+
+    submit(queue, DELETION, RETRY);
+
+    verify(metrics, timeout(1000)).reconciliationQueueWait(eq("test"), eq(DELETION), any());
+    verify(metrics, timeout(1000)).reconciliationQueueWait(eq("test"), eq(RETRY), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void reportsBacklogAsQueueDepthOfPool() {
+    final var metrics = mock(Metrics.class);
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE, metrics);
+    final ArgumentCaptor<Collection<?>> backlog = ArgumentCaptor.forClass(Collection.class);
+    verify(metrics).monitorBacklog(eq("test"), eq("test"), backlog.capture());
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+
+    submit(queue, CREATION, RETRY);
+
+    assertThat(backlog.getValue()).hasSize(2);
+  }
+
+  @Test
+  void waitsUntilBacklogIsNotFull() throws InterruptedException {
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE, Metrics.NOOP);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+    submit(queue, CREATION);
+
+    assertThat(queue.isFull(1)).isTrue();
+    assertThat(queue.awaitNotFull(1, Duration.ofMillis(50))).isFalse();
+    blocker.countDown();
+    assertThat(queue.awaitNotFull(1, Duration.ofSeconds(5))).isTrue();
+  }
+
+  @Test
+  void reportsTimeToDrainFullBacklog() {
+    final var metrics = mock(Metrics.class);
+    final var queue = queue(ReconciliationTrigger.DEFAULT_PRIORITIES,
+        ThreadPoolConfiguration.UNBOUNDED_QUEUE, RejectionPolicy.RESCHEDULE, metrics);
+    queue.submit(RESOURCE_CHANGE, this::block);
+    await().until(() -> queue.size() == 0);
+    submit(queue, CREATION);
+    assertThat(queue.isFull(1)).isTrue();
+
+    blocker.countDown();
+
+    verify(metrics, timeout(1000)).backlogDrained(eq("test"), any());
+  }
+
+  private ReconciliationQueue queue(List<ReconciliationTrigger> priorities, int capacity,
+      RejectionPolicy rejectionPolicy, Metrics metrics) {
+    return new ReconciliationQueue("test", "test", executor, 1, capacity, rejectionPolicy,
+        priorities, metrics);
+  }
+
+  private void submit(ReconciliationQueue queue, ReconciliationTrigger... triggers) {
+    for (ReconciliationTrigger trigger : triggers) {
+      assertThat(queue.submit(trigger, () -> executed.add(trigger))).isTrue();
+    }
+  }
+
+  private void block() {
+    try {
+      blocker.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceIDTest {
+
+  @Test
+  void idsOfSameResourceAreEqual() {
+    var resource = new ConfigMapBuilder().withNewMetadata().withName("name")
+        .withNamespace("namespace").endMetadata().build();
+
+    assertThat(ResourceID.fromResource(resource)).isEqualTo(new ResourceID("name", "namespace"))
+        .hasSameHashCodeAs(new ResourceID("name", "namespace"));
+    assertThat(new ResourceID("name")).isEqualTo(new ResourceID("name", null))
+        .isNotEqualTo(new ResourceID("name", "namespace"));
+  }
+
+  @Test
+  void hashCodeIsUnchanged() {
+    assertThat(new ResourceID("name", "namespace").hashCode())
+        .isEqualTo(Objects.hash("name", "namespace"));
+    assertThat(new ResourceID("name").hashCode()).isEqualTo(Objects.hash("name", null));
+  }
+}
@@ -1,10 +1,15 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.HashSet;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 class ResourceStateManagerTest {
 
@@ -87,4 +92,58 @@ class ResourceStateManagerTest {
     assertThat(res.get(0).getId()).isEqualTo(sampleResourceID2);
   }
 
+  @Test
+  public void isIdleOnlyWithoutEventProcessingOrRetry() {
+    assertThat(state.isIdle()).isTrue();
+
+    state.markEventReceived();
+    assertThat(state.isIdle()).isFalse();
+    state.unMarkEventReceived();
+
+    state.setUnderProcessing(true);
+    assertThat(state.isIdle()).isFalse();
+    state.setUnderProcessing(false);
+
+    state.startDebouncing(System.nanoTime());
+    assertThat(state.isIdle()).isFalse();
+    state.stopDebouncing();
+
+    state.setRetry(mock(RetryExecution.class));
+    assertThat(state.isIdle()).isFalse();
+  }
+
+  @Test
+  public void getDoesNotCreateState() {
+    final var resourceID = new ResourceID("unknown");
+
+    assertThat(manager.get(resourceID)).isEmpty();
+    assertThat(manager.contains(resourceID)).isFalse();
+    assertThat(manager.get(sampleResourceID)).containsSame(state);
+  }
+
+  @Test
+  public void returnsSameLockForSameResourceEvenAfterRemoval() {
+    var lock = manager.lockFor(sampleResourceID);
+
+    manager.remove(sampleResourceID);
+
+    assertThat(manager.lockFor(new ResourceID("test-name"))).isSameAs(lock);
+  }
+
+  @Test
+  public void spreadsResourcesOverMultipleLocks() {
+    var stripedManager = new ResourceStateManager(16);
+    var locks = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      locks.add(stripedManager.lockFor(new ResourceID("resource-" + i, "default")));
+    }
+
+    assertThat(locks).hasSize(16);
+  }
+
+  @Test
+  public void lockStripesMustBeAPowerOfTwo() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceStateManager(3));
+  }
+
 }
@@ -56,6 +56,17 @@ class LinearRateLimiterTest {
     assertThat(res).isEmpty();
   }
 
+  @Test
+  void stateCanBeDiscardedOncePeriodElapsed() throws InterruptedException {
+    var rl = new LinearRateLimiter(REFRESH_PERIOD, 1);
+    rl.isLimited(state);
+    assertThat(rl.canDiscard(state)).isFalse();
+
+    Thread.sleep(REFRESH_PERIOD.toMillis() + REFRESH_PERIOD.toMillis() / 3);
+
+    assertThat(rl.canDiscard(state)).isTrue();
+  }
+
   @Test
   void rateLimitCanBeTurnedOff() {
     var rl = new LinearRateLimiter(REFRESH_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD);
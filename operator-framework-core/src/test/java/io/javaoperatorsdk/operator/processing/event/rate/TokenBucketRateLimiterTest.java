@@ -0,0 +1,117 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimited.Scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+  public static final Duration REFRESH_PERIOD = Duration.ofMillis(300);
+
+  @Test
+  void allowsBurstUpToLimit() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 2);
+    var state = rl.initState();
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isNotEmpty();
+  }
+
+  @Test
+  void returnsMinimalDurationToAcquirePermission() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 2);
+    var state = rl.initState();
+    rl.isLimited(state);
+    rl.isLimited(state);
+
+    var res = rl.isLimited(state);
+
+    assertThat(res).isPresent();
+    assertThat(res.get()).isPositive().isLessThanOrEqualTo(REFRESH_PERIOD.dividedBy(2));
+  }
+
+  @Test
+  void refillsPermissionsSteadily() throws InterruptedException {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 3);
+    var state = rl.initState();
+    for (int i = 0; i < 3; i++) {
+      assertThat(rl.isLimited(state)).isEmpty();
+    }
+    assertThat(rl.isLimited(state)).isPresent();
+
+    // a single permission is refilled after a third of the period, plus some slack
+    Thread.sleep(REFRESH_PERIOD.toMillis() / 3 + REFRESH_PERIOD.toMillis() / 10);
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+  }
+
+  @Test
+  void limitsResourcesSeparatelyByDefault() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 1);
+
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+  }
+
+  @Test
+  void sharesLimitBetweenResourcesOfController() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 1, Scope.CONTROLLER);
+
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+    assertThat(rl.isLimited(rl.initState())).isPresent();
+    assertThat(new TokenBucketRateLimiter(REFRESH_PERIOD, 1, Scope.CONTROLLER).initState())
+        .isNotSameAs(rl.initState());
+  }
+
+  @Test
+  void sharesLimitOfOtherRateLimiter() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 1, Scope.OPERATOR);
+    var other = new TokenBucketRateLimiter(REFRESH_PERIOD, 1, Scope.OPERATOR);
+    assertThat(other.initState()).isNotSameAs(rl.initState());
+
+    other.shareLimitOf(rl);
+
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+    assertThat(other.isLimited(other.initState())).isPresent();
+  }
+
+  @Test
+  void cannotShareDifferentLimit() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 1, Scope.OPERATOR);
+    var other = new TokenBucketRateLimiter(REFRESH_PERIOD, 2, Scope.OPERATOR);
+
+    assertThatThrownBy(() -> other.shareLimitOf(rl)).isInstanceOf(OperatorException.class);
+  }
+
+  @Test
+  void stateCanBeDiscardedOnceBucketIsFull() throws InterruptedException {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, 2);
+    var state = rl.initState();
+    rl.isLimited(state);
+    assertThat(rl.canDiscard(state)).isFalse();
+
+    Thread.sleep(REFRESH_PERIOD.toMillis() / 2 + REFRESH_PERIOD.toMillis() / 10);
+
+    assertThat(rl.canDiscard(state)).isTrue();
+    var shared = new TokenBucketRateLimiter(REFRESH_PERIOD, 2, Scope.CONTROLLER);
+    assertThat(shared.canDiscard(shared.initState())).isTrue();
+  }
+
+  @Test
+  void rateLimitCanBeTurnedOff() {
+    var rl = new TokenBucketRateLimiter(REFRESH_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD,
+        Scope.CONTROLLER);
+
+    var res = rl.isLimited(rl.initState());
+
+    assertThat(res).isEmpty();
+  }
+}
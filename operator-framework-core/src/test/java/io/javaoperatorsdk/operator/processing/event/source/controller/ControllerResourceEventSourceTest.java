@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.TestUtils;
@@ -12,12 +13,14 @@ import io.javaoperatorsdk.operator.api.config.DefaultControllerConfiguration;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
 import io.javaoperatorsdk.operator.processing.event.EventSourceManager;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSourceTestBase;
 import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnAddFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnUpdateFilter;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -74,6 +77,24 @@ class ControllerResourceEventSourceTest extends
     verify(eventHandler, times(2)).handleEvent(any());
   }
 
+  @Test
+  void flagsEventsOfUpdatesChangingGeneration() {
+    TestCustomResource oldCustomResource = TestUtils.testCustomResource1();
+    oldCustomResource.getMetadata().setGeneration(1L);
+    TestCustomResource customResource = TestUtils.testCustomResource1();
+    customResource.getMetadata().setGeneration(2L);
+    TestCustomResource statusUpdated = TestUtils.testCustomResource1();
+    statusUpdated.getMetadata().setGeneration(2L);
+    final var events = ArgumentCaptor.forClass(ResourceEvent.class);
+
+    source.eventReceived(ResourceAction.UPDATED, customResource, oldCustomResource);
+    source.eventReceived(ResourceAction.UPDATED, statusUpdated, customResource);
+
+    verify(eventHandler, times(2)).handleEvent(events.capture());
+    assertThat(events.getAllValues()).extracting(ResourceEvent::isGenerationChanged)
+        .containsExactly(true, false);
+  }
+
   @Test
   void handlesAllEventIfNotGenerationAware() {
     source =
@@ -141,6 +162,99 @@ class ControllerResourceEventSourceTest extends
     verify(eventHandler, never()).handleEvent(any());
   }
 
+  @Test
+  void skipsEventCausedByStatusPatch() {
+    source = new ControllerResourceEventSource<>(new TestController(false));
+    setUpSource(source);
+    TestCustomResource original = TestUtils.testCustomResource1();
+    TestCustomResource patched = TestUtils.testCustomResource1();
+    patched.getMetadata().setResourceVersion("2");
+    source.handleRecentStatusPatch(ResourceID.fromResource(patched), patched, original);
+
+    source.eventReceived(ResourceAction.UPDATED, patched, original);
+    verify(eventHandler, never()).handleEvent(any());
+
+    TestCustomResource updated = TestUtils.testCustomResource1();
+    updated.getMetadata().setResourceVersion("3");
+    source.eventReceived(ResourceAction.UPDATED, updated, patched);
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
+  @Test
+  void propagatesEventIfResourceChangedBeforeStatusPatch() {
+    source = new ControllerResourceEventSource<>(new TestController(false));
+    setUpSource(source);
+    TestCustomResource original = TestUtils.testCustomResource1();
+    TestCustomResource changed = TestUtils.testCustomResource1();
+    changed.getMetadata().setResourceVersion("2");
+    TestCustomResource patched = TestUtils.testCustomResource1();
+    patched.getMetadata().setResourceVersion("3");
+    source.handleRecentStatusPatch(ResourceID.fromResource(patched), patched, original);
+
+    source.eventReceived(ResourceAction.UPDATED, changed, original);
+    source.eventReceived(ResourceAction.UPDATED, patched, changed);
+
+    verify(eventHandler, times(2)).handleEvent(any());
+  }
+
+  @Test
+  void skipsEventOfStatusPatchReceivedBeforePatchReturned() {
+    source = new ControllerResourceEventSource<>(new TestController(false));
+    setUpSource(source);
+    TestCustomResource original = TestUtils.testCustomResource1();
+    TestCustomResource patched = TestUtils.testCustomResource1();
+    patched.getMetadata().setResourceVersion("2");
+    final var resourceID = ResourceID.fromResource(patched);
+    source.prepareForStatusPatchEventFiltering(resourceID);
+
+    source.eventReceived(ResourceAction.UPDATED, patched, original);
+    source.handleRecentStatusPatch(resourceID, patched, original);
+    verify(eventHandler, never()).handleEvent(any());
+
+    TestCustomResource updated = TestUtils.testCustomResource1();
+    updated.getMetadata().setResourceVersion("3");
+    source.eventReceived(ResourceAction.UPDATED, updated, patched);
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
+  @Test
+  void propagatesEventsReceivedDuringStatusPatchOnceDone() {
+    source = new ControllerResourceEventSource<>(new TestController(false));
+    setUpSource(source);
+    TestCustomResource original = TestUtils.testCustomResource1();
+    TestCustomResource changed = TestUtils.testCustomResource1();
+    changed.getMetadata().setResourceVersion("2");
+    TestCustomResource patched = TestUtils.testCustomResource1();
+    patched.getMetadata().setResourceVersion("3");
+    final var resourceID = ResourceID.fromResource(patched);
+    source.prepareForStatusPatchEventFiltering(resourceID);
+
+    source.eventReceived(ResourceAction.UPDATED, changed, original);
+    verify(eventHandler, never()).handleEvent(any());
+    source.handleRecentStatusPatch(resourceID, patched, original);
+    verify(eventHandler, times(1)).handleEvent(any());
+
+    source.eventReceived(ResourceAction.UPDATED, patched, changed);
+    verify(eventHandler, times(2)).handleEvent(any());
+  }
+
+  @Test
+  void propagatesEventsReceivedDuringFailedStatusPatch() {
+    source = new ControllerResourceEventSource<>(new TestController(false));
+    setUpSource(source);
+    TestCustomResource original = TestUtils.testCustomResource1();
+    TestCustomResource changed = TestUtils.testCustomResource1();
+    changed.getMetadata().setResourceVersion("2");
+    final var resourceID = ResourceID.fromResource(changed);
+    source.prepareForStatusPatchEventFiltering(resourceID);
+
+    source.eventReceived(ResourceAction.UPDATED, changed, original);
+    verify(eventHandler, never()).handleEvent(any());
+    source.cleanupOnStatusPatchEventFiltering(resourceID);
+
+    verify(eventHandler, times(1)).handleEvent(any());
+  }
+
   @SuppressWarnings("unchecked")
   private static class TestController extends Controller<TestCustomResource> {
 
@@ -0,0 +1,127 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.processing.event.source.informer.CachePruneFunctions.LAST_APPLIED_CONFIGURATION_ANNOTATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+class CachePruneFunctionsTest {
+
+  private static final String NAMESPACE = "test";
+
+  KubernetesClient client;
+
+  @Test
+  void prunesManagedFieldsAndLastAppliedConfiguration() {
+    var configMap = configMap();
+    var annotations = configMap.getMetadata().getAnnotations();
+
+    var pruned = CachePruneFunctions.<ConfigMap>defaults().apply(configMap);
+
+    assertThat(pruned).isSameAs(configMap);
+    assertThat(pruned.getMetadata().getManagedFields()).isNullOrEmpty();
+    assertThat(pruned.getMetadata().getAnnotations()).containsOnlyKeys("kept");
+    // the annotations are replaced rather than modified
+    assertThat(annotations).containsKey(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+  }
+
+  @Test
+  void builtInFunctionsAreEqualSoThatInformersCanBeShared() {
+    assertThat(CachePruneFunctions.<ConfigMap>defaults())
+        .isEqualTo(CachePruneFunctions.<ConfigMap>defaults());
+    assertThat(CachePruneFunctions.<ConfigMap>metadataOnly())
+        .isEqualTo(CachePruneFunctions.<ConfigMap>metadataOnly());
+    assertThat(CachePruneFunctions.all(CachePruneFunctions.<ConfigMap>managedFields(),
+        CachePruneFunctions.metadataOnly()))
+        .isEqualTo(CachePruneFunctions.all(CachePruneFunctions.<ConfigMap>managedFields(),
+            CachePruneFunctions.metadataOnly()))
+        .isNotEqualTo(CachePruneFunctions.<ConfigMap>defaults());
+  }
+
+  @Test
+  void keepsOnlyMetadata() {
+    var pod = new PodBuilder()
+        .withNewMetadata()
+        .withName("test")
+        .withNamespace(NAMESPACE)
+        .withLabels(Map.of("app", "test"))
+        .withOwnerReferences(new OwnerReferenceBuilder().withName("owner").build())
+        .endMetadata()
+        .withNewSpec().withNodeName("node").endSpec()
+        .withNewStatus().withPhase("Running").endStatus()
+        .build();
+    var metadata = pod.getMetadata();
+
+    var pruned = CachePruneFunctions.<Pod>metadataOnly().apply(pod);
+
+    assertThat(pruned).isSameAs(pod);
+    assertThat(pruned.getMetadata()).isSameAs(metadata);
+    assertThat(pruned.getKind()).isEqualTo("Pod");
+    assertThat(pruned.getSpec()).isNull();
+    assertThat(pruned.getStatus()).isNull();
+    assertThat(Mappers.fromOwnerReference().toPrimaryResourceIDs(pruned))
+        .containsExactly(new ResourceID("owner", NAMESPACE));
+  }
+
+  @Test
+  void keepsOnlyMetadataOfCustomResources() {
+    var resource = TestUtils.testCustomResource();
+
+    var pruned = CachePruneFunctions.<TestCustomResource>metadataOnly().apply(resource);
+
+    assertThat(pruned.getMetadata().getName()).isEqualTo(resource.getMetadata().getName());
+    assertThat(pruned.getSpec()).isNull();
+    assertThat(pruned.getStatus()).isNull();
+  }
+
+  @Test
+  void informerCacheHoldsPrunedResources() {
+    client.configMaps().inNamespace(NAMESPACE).create(configMap());
+    var informer = new InformerWrapper<>(
+        client.configMaps().inNamespace(NAMESPACE).runnableInformer(0),
+        CachePruneFunctions.defaults());
+
+    informer.start();
+    try {
+      await().atMost(5, TimeUnit.SECONDS)
+          .until(() -> informer.get(new ResourceID("test", NAMESPACE)).isPresent());
+
+      var cached = informer.get(new ResourceID("test", NAMESPACE)).orElseThrow();
+      assertThat(cached.getMetadata().getManagedFields()).isNullOrEmpty();
+      assertThat(cached.getMetadata().getAnnotations()).containsOnlyKeys("kept");
+      assertThat(cached.getData()).containsEntry("key", "value");
+    } finally {
+      informer.stop();
+    }
+  }
+
+  private static ConfigMap configMap() {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("test")
+        .withNamespace(NAMESPACE)
+        .withAnnotations(Map.of(LAST_APPLIED_CONFIGURATION_ANNOTATION, "{}", "kept", "value"))
+        .withManagedFields(List.of(new ManagedFieldsEntryBuilder().withManager("test").build()))
+        .endMetadata()
+        .withData(Map.of("key", "value"))
+        .build();
+  }
+}
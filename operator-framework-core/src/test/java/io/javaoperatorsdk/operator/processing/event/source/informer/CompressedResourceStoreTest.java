@@ -0,0 +1,139 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+class CompressedResourceStoreTest {
+
+  private static final String NAMESPACE = "test";
+  private static final ResourceID TEST_ID = new ResourceID("test", NAMESPACE);
+
+  KubernetesClient client;
+
+  private InformerWrapper<ConfigMap> informer;
+
+  @AfterEach
+  void stopInformer() {
+    if (informer != null) {
+      informer.stop();
+    }
+  }
+
+  @Test
+  void cachesShellsAndDecodesFullResources() {
+    final var store = new CompressedResourceStore<>(ConfigMap.class, null);
+    final var cache = new Cache<ConfigMap>();
+    cache.addIndexers(Map.of(CompressedResourceStore.COMPRESSION_INDEX, store::compress));
+
+    cache.put(configMap("test", "value"));
+
+    final var shell = cache.getByKey(NAMESPACE + "/test");
+    assertThat(shell.getData()).isNull();
+    assertThat(shell.getMetadata().getLabels()).containsEntry("app", "test");
+    final var resource = store.resolve(shell);
+    assertThat(resource.getData()).containsEntry("key", "value");
+    assertThat(store.resolve(shell)).isSameAs(resource);
+    assertThat(store.read(cache, cache::list)).containsExactly(resource);
+  }
+
+  @Test
+  void decodesUpdatedResourcesAgain() {
+    final var store = new CompressedResourceStore<>(ConfigMap.class, null);
+    final var cache = new Cache<ConfigMap>();
+    cache.addIndexers(Map.of(CompressedResourceStore.COMPRESSION_INDEX, store::compress));
+    cache.put(configMap("test", "value"));
+    final var oldShell = cache.getByKey(NAMESPACE + "/test");
+
+    cache.put(configMap("test", "updated"));
+
+    final var newShell = cache.getByKey(NAMESPACE + "/test");
+    assertThat(store.resolve(newShell).getData()).containsEntry("key", "updated");
+    // the previous version is kept until its update event is dispatched
+    assertThat(store.resolve(oldShell).getData()).containsEntry("key", "value");
+    store.updateDispatched(newShell);
+    assertThat(store.resolve(oldShell).getData()).isNull();
+  }
+
+  @Test
+  void takesLessSpaceThanSerializedResources() {
+    final var store = new CompressedResourceStore<>(ConfigMap.class, null);
+    final var cache = new Cache<ConfigMap>();
+    cache.addIndexers(Map.of(CompressedResourceStore.COMPRESSION_INDEX, store::compress));
+    final var resources = IntStream.range(0, 1_000)
+        .mapToObj(i -> configMap("test-" + i, "value-" + i))
+        .collect(Collectors.toList());
+    final var serializedSize = resources.stream()
+        .mapToLong(r -> Serialization.asJson(r).length())
+        .sum();
+
+    resources.forEach(cache::put);
+
+    assertThat(store.size()).isEqualTo(1_000);
+    assertThat(store.compressedBytes()).isLessThan(serializedSize / 2);
+  }
+
+  @Test
+  void informerReturnsAndDispatchesFullResources() {
+    final var updates = new CopyOnWriteArrayList<List<String>>();
+    informer = new InformerWrapper<>(
+        client.configMaps().inNamespace(NAMESPACE).runnableInformer(0), null, true);
+    informer.addIndexers(
+        Map.of("value", r -> List.of(r.getData().getOrDefault("key", "none"))));
+    informer.addEventHandler(new ResourceEventHandler<>() {
+      @Override
+      public void onAdd(ConfigMap obj) {}
+
+      @Override
+      public void onUpdate(ConfigMap oldObj, ConfigMap newObj) {
+        updates.add(List.of(oldObj.getData().get("key"), newObj.getData().get("key")));
+      }
+
+      @Override
+      public void onDelete(ConfigMap obj, boolean deletedFinalStateUnknown) {}
+    });
+    client.configMaps().inNamespace(NAMESPACE).create(configMap("test", "value"));
+    informer.start();
+    await().until(() -> informer.get(TEST_ID).isPresent());
+
+    client.configMaps().inNamespace(NAMESPACE).withName("test")
+        .edit(r -> configMap("test", "updated"));
+
+    await().untilAsserted(
+        () -> assertThat(updates).containsExactly(List.of("value", "updated")));
+    assertThat(informer.get(TEST_ID).orElseThrow().getData()).containsEntry("key", "updated");
+    assertThat(informer.byIndex("value", "updated")).hasSize(1);
+    assertThat(informer.byIndex("value", "value")).isEmpty();
+    assertThat(informer.list(NAMESPACE, null).collect(Collectors.toList()))
+        .allSatisfy(r -> assertThat(r.getData()).isNotNull());
+  }
+
+  private static ConfigMap configMap(String name, String value) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName(name)
+        .withNamespace(NAMESPACE)
+        .withLabels(Map.of("app", "test"))
+        .endMetadata()
+        .withData(Map.of("key", value, "padding", "x".repeat(200)))
+        .build();
+  }
+}
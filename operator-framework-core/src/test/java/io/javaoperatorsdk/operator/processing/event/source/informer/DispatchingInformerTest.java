@@ -0,0 +1,90 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DispatchingInformerTest {
+
+  @SuppressWarnings("unchecked")
+  private final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+  @SuppressWarnings("unchecked")
+  private final Cache<ConfigMap> cache = mock(Cache.class);
+
+  @Test
+  void holdsBackEventsDispatchedWhileReplayingCacheToLateHandler() {
+    when(informer.getStore()).thenReturn(cache);
+    final var dispatching = new DispatchingInformer<>(informer, null);
+    dispatching.start(null);
+    final var cached = configMap("1");
+    final var updated = configMap("2");
+    // the resource is updated after the handler is registered but before the cache is replayed
+    when(cache.list()).thenAnswer(invocation -> {
+      dispatching.onUpdate(cached, updated);
+      return List.of(cached);
+    });
+    final var handler = new RecordingHandler();
+
+    dispatching.start(handler);
+    dispatching.onDelete(updated, false);
+
+    assertThat(handler.events).containsExactly("add 1", "update 1 -> 2", "delete 2");
+  }
+
+  @Test
+  void doesNotDispatchEventsToStoppedLateHandler() {
+    when(informer.getStore()).thenReturn(cache);
+    when(cache.list()).thenReturn(List.of());
+    final var dispatching = new DispatchingInformer<>(informer, null);
+    dispatching.start(null);
+    final var handler = new RecordingHandler();
+    dispatching.start(handler);
+
+    dispatching.stop(handler);
+    dispatching.onAdd(configMap("1"));
+
+    assertThat(handler.events).isEmpty();
+  }
+
+  private static ConfigMap configMap(String resourceVersion) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("test")
+        .withNamespace("test")
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<ConfigMap> {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onAdd(ConfigMap obj) {
+      events.add("add " + obj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onUpdate(ConfigMap oldObj, ConfigMap newObj) {
+      events.add("update " + oldObj.getMetadata().getResourceVersion() + " -> "
+          + newObj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onDelete(ConfigMap obj, boolean deletedFinalStateUnknown) {
+      events.add("delete " + obj.getMetadata().getResourceVersion());
+    }
+  }
+}
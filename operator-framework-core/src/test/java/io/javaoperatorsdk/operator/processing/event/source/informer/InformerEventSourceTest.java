@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
@@ -21,6 +22,7 @@ import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMap
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.DEFAULT_NAMESPACES_SET;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +44,7 @@ class InformerEventSourceTest {
   private final FilterWatchListDeletable labeledResourceClientMock =
       mock(FilterWatchListDeletable.class);
   private final SharedIndexInformer informer = mock(SharedIndexInformer.class);
+  private final Cache informerStore = mock(Cache.class);
   private final InformerConfiguration<Deployment> informerConfiguration =
       mock(InformerConfiguration.class);
 
@@ -53,6 +56,7 @@ class InformerEventSourceTest {
         .thenReturn(labeledResourceClientMock);
     when(labeledResourceClientMock.runnableInformer(0)).thenReturn(informer);
     when(informer.getIndexer()).thenReturn(mock(Indexer.class));
+    when(informer.getStore()).thenReturn(informerStore);
 
     when(informerConfiguration.getEffectiveNamespaces())
         .thenReturn(DEFAULT_NAMESPACES_SET);
@@ -252,6 +256,17 @@ class InformerEventSourceTest {
     verify(eventHandlerMock, never()).handleEvent(any());
   }
 
+  @Test
+  void unsafeReadsReturnCachedInstanceInsteadOfCopy() {
+    var deployment = testDeployment();
+    when(informerStore.getByKey(any())).thenReturn(deployment);
+    var resourceID = ResourceID.fromResource(deployment);
+
+    assertThat(informerEventSource.getUnsafe(resourceID)).containsSame(deployment);
+    assertThat(informerEventSource.get(resourceID)).hasValueSatisfying(
+        copy -> assertThat(copy).isNotSameAs(deployment).isEqualTo(deployment));
+  }
+
   Deployment testDeployment() {
     Deployment deployment = new Deployment();
     deployment.setMetadata(new ObjectMeta());
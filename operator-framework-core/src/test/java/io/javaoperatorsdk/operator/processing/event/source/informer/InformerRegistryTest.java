@@ -0,0 +1,195 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@EnableKubernetesMockClient(crud = true, https = false)
+class InformerRegistryTest {
+
+  private static final String NAMESPACE = "test";
+
+  KubernetesClient client;
+
+  private final InformerRegistry registry = new InformerRegistry();
+  private InformerWrapper<ConfigMap> first;
+  private InformerWrapper<ConfigMap> second;
+  private final List<SharedIndexInformer<ConfigMap>> informers = new CopyOnWriteArrayList<>();
+
+  @AfterEach
+  void stopWrappers() {
+    if (first != null) {
+      first.stop();
+    }
+    if (second != null) {
+      second.stop();
+    }
+    registry.stop();
+    // the mock server rejects the closing of watches once it is shut down
+    await().until(() -> informers.stream().noneMatch(SharedIndexInformer::isWatching));
+  }
+
+  @Test
+  void sharesInformerAndDispatchesEventsToAllHandlers() {
+    final var firstHandler = new RecordingHandler();
+    final var secondHandler = new RecordingHandler();
+    first = shared(firstHandler);
+    second = shared(secondHandler);
+    first.start(registry);
+    second.start(registry);
+    final var informer = registeredInformer();
+
+    client.configMaps().inNamespace(NAMESPACE).create(configMap("test"));
+
+    await().untilAsserted(() -> {
+      assertThat(firstHandler.added).containsExactly("test");
+      assertThat(secondHandler.added).containsExactly("test");
+    });
+    assertThat(registry.usersOf(informer)).isEqualTo(2);
+  }
+
+  @Test
+  void notifiesLateHandlersOfCachedResources() {
+    client.configMaps().inNamespace(NAMESPACE).create(configMap("test"));
+    first = shared(new RecordingHandler());
+    first.start(registry);
+    await().until(() -> first.get(new ResourceID("test", NAMESPACE)).isPresent());
+
+    final var handler = new RecordingHandler();
+    second = shared(handler);
+    second.start(registry);
+
+    assertThat(handler.added).containsExactly("test");
+  }
+
+  @Test
+  void stopsInformerOnceNotUsedAnymore() {
+    first = shared(new RecordingHandler());
+    second = shared(new RecordingHandler());
+    first.start(registry);
+    second.start(registry);
+    final var informer = registeredInformer();
+
+    first.stop();
+    first.stop();
+    first = null;
+
+    assertThat(informer.isRunning()).isTrue();
+    assertThat(registry.usersOf(informer)).isEqualTo(1);
+
+    second.stop();
+    second = null;
+
+    assertThat(informer.isRunning()).isFalse();
+    assertThat(registry.usersOf(informer)).isZero();
+  }
+
+  @Test
+  void usesDedicatedInformerToAddIndexersOnceSharedOneIsRunning() {
+    client.configMaps().inNamespace(NAMESPACE).create(configMap("test"));
+    first = shared(new RecordingHandler());
+    first.addIndexers(Map.of("name", r -> List.of(r.getMetadata().getName())));
+    first.start(registry);
+    final var informer = registeredInformer();
+    await().until(() -> first.get(new ResourceID("test", NAMESPACE)).isPresent());
+
+    second = shared(new RecordingHandler());
+    second.addIndexers(Map.of("name", r -> List.of("other")));
+    second.addIndexers(Map.of("namespace", r -> List.of(r.getMetadata().getNamespace())));
+    second.start(registry);
+
+    assertThat(registry.usersOf(informer)).isEqualTo(1);
+    assertThat(first.byIndex("name", "test")).hasSize(1);
+    await().untilAsserted(() -> {
+      assertThat(second.byIndex("name", "other")).hasSize(1);
+      assertThat(second.byIndex("namespace", NAMESPACE)).hasSize(1);
+    });
+  }
+
+  @Test
+  void sharesRunningInformerWithEventSourceWithoutIndexers() {
+    client.configMaps().inNamespace(NAMESPACE).create(configMap("test"));
+    first = shared(new RecordingHandler());
+    first.addIndexers(Map.of("name", r -> List.of(r.getMetadata().getName())));
+    first.start(registry);
+    second = shared(new RecordingHandler());
+    second.start(registry);
+
+    assertThat(registry.usersOf(registeredInformer())).isEqualTo(2);
+    await().untilAsserted(() -> {
+      assertThat(first.byIndex("name", "test")).hasSize(1);
+      assertThat(second.get(new ResourceID("test", NAMESPACE))).isPresent();
+    });
+  }
+
+  @Test
+  void doesNotShareInformersAcrossRegistries() {
+    first = shared(new RecordingHandler());
+    second = shared(new RecordingHandler());
+    first.start(registry);
+    second.start(new InformerRegistry());
+
+    assertThat(registry.usersOf(registeredInformer())).isEqualTo(1);
+  }
+
+  private InformerWrapper<ConfigMap> shared(ResourceEventHandler<ConfigMap> handler) {
+    final var informer = client.configMaps().inNamespace(NAMESPACE).runnableInformer(0);
+    informers.add(informer);
+    final var wrapper = InformerWrapper.shared(key(), informer, null, false);
+    wrapper.addEventHandler(handler);
+    return wrapper;
+  }
+
+  private DispatchingInformer<ConfigMap> registeredInformer() {
+    final DispatchingInformer<ConfigMap> informer =
+        registry.acquire(key(), () -> {
+          throw new IllegalStateException("Informer should already be registered");
+        });
+    registry.release(informer);
+    return informer;
+  }
+
+  private List<Object> key() {
+    return InformerRegistry.key(client, ConfigMap.class, NAMESPACE, null, null);
+  }
+
+  private static ConfigMap configMap(String name) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName(name)
+        .withNamespace(NAMESPACE)
+        .endMetadata()
+        .build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<ConfigMap> {
+    private final Set<String> added = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onAdd(ConfigMap obj) {
+      added.add(obj.getMetadata().getName());
+    }
+
+    @Override
+    public void onUpdate(ConfigMap oldObj, ConfigMap newObj) {}
+
+    @Override
+    public void onDelete(ConfigMap obj, boolean deletedFinalStateUnknown) {}
+  }
+}
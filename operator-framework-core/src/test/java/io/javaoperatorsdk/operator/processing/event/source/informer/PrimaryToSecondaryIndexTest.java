@@ -1,6 +1,13 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +18,7 @@ import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -85,6 +93,119 @@ class PrimaryToSecondaryIndexTest {
     assertThat(secondaryResources2).isEmpty();
   }
 
+  @Test
+  void removesResourceFromPrimariesItIsNotRelatedToAnymore() {
+    when(secondaryToPrimaryMapperMock.toPrimaryResourceIDs(any()))
+        .thenReturn(Set.of(primaryID1, primaryID2), Set.of(primaryID2));
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1)).isEmpty();
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2))
+        .containsOnly(ResourceID.fromResource(secondary1));
+
+    // the resource is removed from the primaries it was indexed for, whatever its current mapping
+    when(secondaryToPrimaryMapperMock.toPrimaryResourceIDs(any())).thenReturn(Set.of());
+    primaryToSecondaryIndex.onDelete(secondary1);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2)).isEmpty();
+  }
+
+  @Test
+  void returnsSnapshotsOfSecondaryResources() {
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+    var secondaryResources = primaryToSecondaryIndex.getSecondaryResources(primaryID1);
+
+    primaryToSecondaryIndex.onAddOrUpdate(secondary2);
+    primaryToSecondaryIndex.onDelete(secondary1);
+
+    assertThat(secondaryResources).containsOnly(ResourceID.fromResource(secondary1));
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1))
+        .containsOnly(ResourceID.fromResource(secondary2));
+  }
+
+  @Test
+  void staysConsistentUnderConcurrentUpdates() throws InterruptedException {
+    final var secondaries = IntStream.range(0, 200)
+        .mapToObj(i -> secondary("secondary-" + i))
+        .collect(Collectors.toList());
+    final var executor = Executors.newFixedThreadPool(8);
+    final var readsDone = new AtomicBoolean();
+    final var readErrors = new AtomicInteger();
+    executor.submit(() -> {
+      while (!readsDone.get()) {
+        try {
+          primaryToSecondaryIndex.getSecondaryResources(primaryID1).forEach(ResourceID::getName);
+        } catch (RuntimeException e) {
+          readErrors.incrementAndGet();
+        }
+      }
+    });
+
+    final var writes = IntStream.range(0, 7)
+        .mapToObj(thread -> executor.submit(() -> {
+          for (int round = 0; round < 50; round++) {
+            secondaries.forEach(primaryToSecondaryIndex::onAddOrUpdate);
+            secondaries.stream().filter(s -> s.getMetadata().getName().hashCode() % 2 == 0)
+                .forEach(primaryToSecondaryIndex::onDelete);
+          }
+        }))
+        .collect(Collectors.toList());
+    for (var write : writes) {
+      assertThat(write).succeedsWithin(Duration.ofSeconds(30));
+    }
+    readsDone.set(true);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    secondaries.forEach(primaryToSecondaryIndex::onAddOrUpdate);
+    assertThat(readErrors).hasValue(0);
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1))
+        .hasSize(secondaries.size());
+    secondaries.forEach(primaryToSecondaryIndex::onDelete);
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1)).isEmpty();
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2)).isEmpty();
+  }
+
+  @Test
+  void indexesManySecondaryResourcesOfPrimaryWhileItIsRead() {
+    // indexing used to copy the whole set of secondary resources of the primary on every change
+    final var count = 20_000;
+    final var secondaries = IntStream.range(0, count)
+        .mapToObj(i -> secondary("secondary-" + i))
+        .collect(Collectors.toList());
+    final var executor = Executors.newFixedThreadPool(5);
+    final var writing = new AtomicBoolean(true);
+    final var readsWhileWriting = new AtomicInteger();
+    try {
+      executor.submit(() -> {
+        while (writing.get()) {
+          primaryToSecondaryIndex.getSecondaryResources(primaryID1);
+          readsWhileWriting.incrementAndGet();
+        }
+      });
+
+      assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+        final var writes = IntStream.range(0, 4)
+            .mapToObj(thread -> executor.submit(() -> IntStream.range(0, count)
+                .filter(i -> i % 4 == thread)
+                .forEach(i -> primaryToSecondaryIndex.onAddOrUpdate(secondaries.get(i)))))
+            .collect(Collectors.toList());
+        for (var write : writes) {
+          write.get();
+        }
+      });
+      writing.set(false);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(readsWhileWriting).doesNotHaveValue(0);
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1)).hasSize(count);
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2)).hasSize(count);
+  }
+
   ConfigMap secondary(String name) {
     ConfigMap configMap = new ConfigMap();
     configMap.setMetadata(new ObjectMeta());
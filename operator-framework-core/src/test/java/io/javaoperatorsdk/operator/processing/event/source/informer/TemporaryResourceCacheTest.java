@@ -1,10 +1,12 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
@@ -26,7 +28,7 @@ class TemporaryResourceCacheTest {
     var testResource = testResource();
     var prevTestResource = testResource();
     prevTestResource.getMetadata().setResourceVersion("0");
-    when(informerEventSource.get(any())).thenReturn(Optional.of(prevTestResource));
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.of(prevTestResource));
 
     temporaryResourceCache.putUpdatedResource(testResource, "0");
 
@@ -39,7 +41,7 @@ class TemporaryResourceCacheTest {
     var testResource = testResource();
     var informerCachedResource = testResource();
     informerCachedResource.getMetadata().setResourceVersion("x");
-    when(informerEventSource.get(any())).thenReturn(Optional.of(informerCachedResource));
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.of(informerCachedResource));
 
     temporaryResourceCache.putUpdatedResource(testResource, "0");
 
@@ -50,7 +52,7 @@ class TemporaryResourceCacheTest {
   @Test
   void addOperationAddsTheResourceIfInformerCacheStillEmpty() {
     var testResource = testResource();
-    when(informerEventSource.get(any())).thenReturn(Optional.empty());
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.empty());
 
     temporaryResourceCache.putAddedResource(testResource);
 
@@ -61,7 +63,7 @@ class TemporaryResourceCacheTest {
   @Test
   void addOperationNotAddsTheResourceIfInformerCacheNotEmpty() {
     var testResource = testResource();
-    when(informerEventSource.get(any())).thenReturn(Optional.of(testResource()));
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.of(testResource()));
 
     temporaryResourceCache.putAddedResource(testResource);
 
@@ -69,6 +71,22 @@ class TemporaryResourceCacheTest {
     assertThat(cached).isNotPresent();
   }
 
+  @Test
+  void prunesCopyOfCachedResource() {
+    var prunedCache = new TemporaryResourceCache<>(informerEventSource,
+        CachePruneFunctions.<ConfigMap>managedFields());
+    var testResource = testResource();
+    testResource.getMetadata().setManagedFields(List.of(new ManagedFieldsEntry()));
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.empty());
+
+    prunedCache.putAddedResource(testResource);
+
+    var cached = prunedCache.getResourceFromCache(ResourceID.fromResource(testResource));
+    assertThat(cached).isPresent();
+    assertThat(cached.get().getMetadata().getManagedFields()).isNullOrEmpty();
+    assertThat(testResource.getMetadata().getManagedFields()).hasSize(1);
+  }
+
   @Test
   void removesResourceFromCache() {
     ConfigMap testResource = propagateTestResourceToCache();
@@ -81,7 +99,7 @@ class TemporaryResourceCacheTest {
 
   private ConfigMap propagateTestResourceToCache() {
     var testResource = testResource();
-    when(informerEventSource.get(any())).thenReturn(Optional.empty());
+    when(informerEventSource.getUnsafe(any())).thenReturn(Optional.empty());
     temporaryResourceCache.putAddedResource(testResource);
     assertThat(temporaryResourceCache.getResourceFromCache(ResourceID.fromResource(testResource)))
         .isPresent();
@@ -1,14 +1,22 @@
 package io.javaoperatorsdk.operator.processing.event.source.polling;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.javaoperatorsdk.operator.TestUtils;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSourceTestBase;
 import io.javaoperatorsdk.operator.processing.event.source.Cache;
 import io.javaoperatorsdk.operator.processing.event.source.CacheKeyMapper;
@@ -16,6 +24,7 @@ import io.javaoperatorsdk.operator.processing.event.source.SampleExternalResourc
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
@@ -129,4 +138,76 @@ class PerResourcePollingEventSourceTest extends
     verify(eventHandler, times(1)).handleEvent(any());
   }
 
+  @Test
+  void slowFetchDoesNotDelayPollingOfOtherResources() throws InterruptedException {
+    var executor = Executors.newScheduledThreadPool(2);
+    var fetchBlocked = new CountDownLatch(1);
+    try {
+      var otherCustomResource = TestUtils.testCustomResource();
+      when(resourceCache.get(ResourceID.fromResource(otherCustomResource)))
+          .thenReturn(Optional.of(otherCustomResource));
+      when(supplier.fetchResources(eq(testCustomResource))).thenAnswer(invocation -> {
+        fetchBlocked.await();
+        return Set.of(SampleExternalResource.testResource1());
+      });
+      setUpSource(new PerResourcePollingEventSource<>(supplier, resourceCache, PERIOD, null,
+          SampleExternalResource.class, CacheKeyMapper.singleResourceCacheKeyMapper(), executor,
+          0));
+
+      source.onResourceCreated(testCustomResource);
+      source.onResourceCreated(otherCustomResource);
+      Thread.sleep(4 * PERIOD);
+
+      verify(supplier, times(1)).fetchResources(eq(testCustomResource));
+      verify(supplier, atLeast(2)).fetchResources(eq(otherCustomResource));
+    } finally {
+      fetchBlocked.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void fetchesDuePrimariesInBatches() throws InterruptedException {
+    var primaries = List.of(TestUtils.testCustomResource(), TestUtils.testCustomResource(),
+        TestUtils.testCustomResource());
+    primaries.forEach(p -> when(resourceCache.get(ResourceID.fromResource(p)))
+        .thenReturn(Optional.of(p)));
+    var batchSizes = new CopyOnWriteArrayList<Integer>();
+    PerResourcePollingEventSource.BatchResourceFetcher<SampleExternalResource, TestCustomResource> batchFetcher =
+        new PerResourcePollingEventSource.BatchResourceFetcher<>() {
+          @Override
+          public Map<ResourceID, Set<SampleExternalResource>> fetchResources(
+              Collection<TestCustomResource> primaryResources) {
+            batchSizes.add(primaryResources.size());
+            return primaryResources.stream().collect(Collectors.toMap(ResourceID::fromResource,
+                p -> Set.of(SampleExternalResource.testResource1())));
+          }
+        };
+    setUpSource(new PerResourcePollingEventSource<>(batchFetcher, resourceCache, PERIOD, null,
+        SampleExternalResource.class, CacheKeyMapper.singleResourceCacheKeyMapper(), null, 0, 2,
+        PERIOD / 3));
+
+    primaries.forEach(source::onResourceCreated);
+    Thread.sleep(PERIOD + PERIOD / 2 + PERIOD / 3);
+
+    assertThat(batchSizes).containsExactlyInAnyOrder(2, 1);
+    verify(eventHandler, times(3)).handleEvent(any());
+    primaries.forEach(p -> assertThat(source.getSecondaryResources(p)).hasSize(1));
+  }
+
+  @Test
+  void rejectsInvalidJitter() {
+    assertThatThrownBy(() -> new PerResourcePollingEventSource<>(supplier, resourceCache, PERIOD,
+        null, SampleExternalResource.class, CacheKeyMapper.singleResourceCacheKeyMapper(), null,
+        1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void spreadsPollsAroundPeriod() {
+    assertThat(PerResourcePollingEventSource.jitteredDelay(1000, 0.2, 0)).isEqualTo(900);
+    assertThat(PerResourcePollingEventSource.jitteredDelay(1000, 0.2, 0.5)).isEqualTo(1000);
+    assertThat(PerResourcePollingEventSource.jitteredDelay(1000, 0.2, 0.999)).isEqualTo(1100);
+    assertThat(PerResourcePollingEventSource.jitteredDelay(1000, 0, 0.999)).isEqualTo(1000);
+  }
+
 }
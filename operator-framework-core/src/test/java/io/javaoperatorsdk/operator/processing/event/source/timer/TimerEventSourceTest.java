@@ -65,6 +65,61 @@ class TimerEventSourceTest
     untilAsserted(PERIOD * 2, PERIOD, () -> assertThat(eventHandler.events).hasSize(1));
   }
 
+  @Test
+  public void canRescheduleOnceEventEarlier() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    source.scheduleOnce(resourceID, 100 * PERIOD);
+    source.scheduleOnce(resourceID, PERIOD);
+
+    untilAsserted(() -> assertThat(eventHandler.events).hasSize(1));
+  }
+
+  @Test
+  public void scheduleOnceNotBeforeKeepsLaterSchedule() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    source.scheduleOnce(resourceID, 100 * PERIOD);
+    source.scheduleOnceNotBefore(resourceID, PERIOD);
+
+    untilAsserted(PERIOD * 3, 0, () -> assertThat(eventHandler.events).isEmpty());
+  }
+
+  @Test
+  public void scheduleOnceNotBeforePostponesEarlierSchedule() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    source.scheduleOnce(resourceID, PERIOD);
+    source.scheduleOnceNotBefore(resourceID, 4 * PERIOD);
+
+    untilAsserted(PERIOD * 2, 0, () -> assertThat(eventHandler.events).isEmpty());
+    untilAsserted(PERIOD * 2, PERIOD, () -> assertThat(eventHandler.events).hasSize(1));
+  }
+
+  @Test
+  public void coalescesPostponedSchedulesOfSameResource() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    for (int i = 1; i <= 1000; i++) {
+      source.scheduleOnce(resourceID, PERIOD + i / 100);
+    }
+
+    assertThat(source.scheduledTasks()).isEqualTo(1);
+    untilAsserted(() -> assertThat(eventHandler.events).hasSize(1));
+    untilAsserted(PERIOD * 2, 0, () -> assertThat(eventHandler.events).hasSize(1));
+  }
+
+  @Test
+  public void cancelledSchedulesAreRemovedFromScheduler() {
+    for (int i = 0; i < 100; i++) {
+      var resourceID = new ResourceID("resource" + i, "default");
+      source.scheduleOnce(resourceID, 100 * PERIOD);
+      source.cancelOnceSchedule(resourceID);
+    }
+
+    assertThat(source.scheduledTasks()).isZero();
+  }
+
   @Test
   public void deRegistersOnceEventSources() {
     TestCustomResource customResource = TestUtils.testCustomResource();
@@ -16,11 +16,19 @@ import org.junit.jupiter.api.Test;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+import io.javaoperatorsdk.operator.api.config.BacklogConfiguration.OverflowPolicy;
+import io.javaoperatorsdk.operator.api.config.DebounceConfiguration;
+import io.javaoperatorsdk.operator.api.config.ThreadPoolConfiguration.RejectionPolicy;
 import io.javaoperatorsdk.operator.api.config.dependent.DependentResourceSpec;
+import io.javaoperatorsdk.operator.api.reconciler.Backlog;
+import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Debounce;
 import io.javaoperatorsdk.operator.api.reconciler.MaxReconciliationInterval;
 import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.javaoperatorsdk.operator.api.reconciler.ReconciliationTrigger;
+import io.javaoperatorsdk.operator.api.reconciler.ThreadPool;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
@@ -29,6 +37,7 @@ import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDep
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResourceConfig;
 import io.javaoperatorsdk.operator.processing.event.rate.LinearRateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimited;
+import io.javaoperatorsdk.operator.processing.event.rate.TokenBucketRateLimiter;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
 import io.javaoperatorsdk.operator.processing.retry.GradualRetry;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
@@ -138,6 +147,61 @@ class AnnotationControllerConfigurationTest {
     assertEquals(50, config.maxReconciliationInterval().map(Duration::getSeconds).orElseThrow());
   }
 
+  @Test
+  void maxConcurrentReconciliationsCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new MaxConcurrencyReconciler());
+    assertEquals(3, config.maxConcurrentReconciliations());
+
+    config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
+    assertEquals(Constants.NO_MAX_CONCURRENT_RECONCILIATIONS,
+        config.maxConcurrentReconciliations());
+  }
+
+  @Test
+  void dedicatedThreadPoolCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new ThreadPoolReconciler());
+    var threadPool = config.getThreadPoolConfiguration().orElseThrow();
+    assertEquals(4, threadPool.getThreads());
+    assertEquals(100, threadPool.getQueueCapacity());
+    assertEquals(RejectionPolicy.CALLER_RUNS, threadPool.getRejectionPolicy());
+
+    config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
+    assertTrue(config.getThreadPoolConfiguration().isEmpty());
+  }
+
+  @Test
+  void reconciliationPrioritiesCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new PrioritizedReconciler());
+    assertEquals(List.of(ReconciliationTrigger.SPEC_CHANGE, ReconciliationTrigger.DELETION),
+        config.getReconciliationPriorities());
+
+    config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
+    assertEquals(ReconciliationTrigger.DEFAULT_PRIORITIES, config.getReconciliationPriorities());
+  }
+
+  @Test
+  void debounceCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new DebouncedReconciler());
+    var debounce = config.getDebounceConfiguration().orElseThrow();
+    assertEquals(Duration.ofSeconds(2), debounce.getWindow());
+    assertEquals(Duration.ofSeconds(2).multipliedBy(DebounceConfiguration.DEFAULT_MAX_DELAY_FACTOR),
+        debounce.getMaxDelay());
+
+    config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
+    assertTrue(config.getDebounceConfiguration().isEmpty());
+  }
+
+  @Test
+  void backlogCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new BackloggedReconciler());
+    var backlog = config.getBacklogConfiguration().orElseThrow();
+    assertEquals(50, backlog.getMaxPending());
+    assertEquals(OverflowPolicy.SHED, backlog.getOverflowPolicy());
+
+    config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
+    assertTrue(config.getBacklogConfiguration().isEmpty());
+  }
+
   @Test
   void checkDefaultRateAndRetryConfigurations() {
     var config = new AnnotationControllerConfiguration<>(new NoDepReconciler());
@@ -164,6 +228,16 @@ class AnnotationControllerConfigurationTest {
     assertEquals(Duration.ofSeconds(3), rateLimiter.getRefreshPeriod());
   }
 
+  @Test
+  void tokenBucketRateLimiterCanBeConfigured() {
+    var config = new AnnotationControllerConfiguration<>(new TokenBucketRateLimitedReconciler());
+    final var rateLimiter =
+        assertInstanceOf(TokenBucketRateLimiter.class, config.getRateLimiter());
+    assertEquals(20, rateLimiter.getLimitForPeriod());
+    assertEquals(Duration.ofMinutes(1), rateLimiter.getRefreshPeriod());
+    assertEquals(RateLimited.Scope.CONTROLLER, rateLimiter.getScope());
+  }
+
   @Test
   void checkingRetryingGraduallyWorks() {
     var config = new AnnotationControllerConfiguration<>(new CheckRetryingGraduallyConfiguration());
@@ -195,6 +269,54 @@ class AnnotationControllerConfigurationTest {
     }
   }
 
+  @ControllerConfiguration(maxConcurrentReconciliations = 3)
+  private static class MaxConcurrencyReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return null;
+    }
+  }
+
+  @ControllerConfiguration(threadPool = @ThreadPool(threads = 4, queueCapacity = 100,
+      rejectionPolicy = RejectionPolicy.CALLER_RUNS))
+  private static class ThreadPoolReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return null;
+    }
+  }
+
+  @ControllerConfiguration(reconciliationPriorities = {ReconciliationTrigger.SPEC_CHANGE,
+      ReconciliationTrigger.DELETION})
+  private static class PrioritizedReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return null;
+    }
+  }
+
+  @ControllerConfiguration(debounce = @Debounce(window = 2, timeUnit = TimeUnit.SECONDS))
+  private static class DebouncedReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return null;
+    }
+  }
+
+  @ControllerConfiguration(
+      backlog = @Backlog(maxPending = 50, overflowPolicy = OverflowPolicy.SHED))
+  private static class BackloggedReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return null;
+    }
+  }
+
   @ControllerConfiguration(namespaces = OneDepReconciler.CONFIGURED_NS,
       dependents = @Dependent(type = ReadOnlyDependent.class))
   private static class OneDepReconciler implements Reconciler<ConfigMap> {
@@ -322,6 +444,17 @@ class AnnotationControllerConfigurationTest {
     }
   }
 
+  @RateLimited(maxReconciliations = 20, within = 1, unit = TimeUnit.MINUTES,
+      scope = RateLimited.Scope.CONTROLLER)
+  @ControllerConfiguration(rateLimiter = TokenBucketRateLimiter.class)
+  private static class TokenBucketRateLimitedReconciler implements Reconciler<ConfigMap> {
+
+    @Override
+    public UpdateControl<ConfigMap> reconcile(ConfigMap resource, Context<ConfigMap> context) {
+      return UpdateControl.noUpdate();
+    }
+  }
+
   @GradualRetry(
       maxAttempts = CheckRetryingGraduallyConfiguration.MAX_ATTEMPTS,
       initialInterval = CheckRetryingGraduallyConfiguration.INITIAL_INTERVAL,